@@ -0,0 +1,82 @@
+package student.model;
+
+import student.DataGenerator;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Deterministic synthetic data shared by the benchmarks, backed by {@link DataGenerator}.
+ * <p>
+ * The same size and seed always produce the same fleet and users, so results
+ * of different runs are measured on identical inputs.
+ * </p>
+ */
+public final class BenchmarkData {
+
+    /**
+     * Seed used when a benchmark does not need its own.
+     */
+    public static final long DEFAULT_SEED = 5004L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Generates a fleet with {@link DataGenerator}'s default distributions.
+     *
+     * @param size number of cars
+     * @param seed random seed
+     * @return the generated cars
+     */
+    public static List<Car> fleet(int size, long seed) {
+        return new DataGenerator(seed).cars(size);
+    }
+
+    /**
+     * Generates users with unique names with {@link DataGenerator}.
+     *
+     * @param count number of users
+     * @param seed  random seed
+     * @return the generated users
+     */
+    public static List<User> users(int count, long seed) {
+        return new DataGenerator(seed).users(count);
+    }
+
+    /**
+     * Writes cars in the {@code data/cars.csv} format.
+     *
+     * @param file the target file
+     * @param cars the cars to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeCars(Path file, List<Car> cars) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (Car car : cars) {
+                writer.write(car.getRegNumber() + "," + car.getBrand() + "," + car.getRentalPricePerDay() + ","
+                        + car.isElectric() + "," + car.getModel() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Writes users in the {@code data/users.csv} format.
+     *
+     * @param file  the target file
+     * @param users the users to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeUsers(Path file, List<User> users) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (User user : users) {
+                writer.write(user.getId() + "," + user.getName() + "\n");
+            }
+        }
+    }
+}
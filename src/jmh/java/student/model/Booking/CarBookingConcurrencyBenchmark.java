@@ -0,0 +1,108 @@
+package student.model.Booking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@link CarBookingRepository#tryBook(CarBooking)} throughput from 1 to 64 threads.
+ * Every operation books a car nobody has booked before, so all attempts succeed and the
+ * cost is the lock stripe plus the shared list append.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class CarBookingConcurrencyBenchmark {
+
+    private final AtomicLong nextCar = new AtomicLong();
+    private final User user = new User(UUID.randomUUID(), "Benchmark");
+    private final LocalDateTime time = LocalDateTime.now();
+    private CarBookingRepository repository;
+
+    /**
+     * Creates the repository.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new CarBookingRepository();
+    }
+
+    /**
+     * Drops the bookings of the finished iteration so the history stays bounded.
+     */
+    @TearDown(Level.Iteration)
+    public void clear() {
+        repository.clear();
+    }
+
+    private boolean bookNewCar() {
+        Car car = new Car("T" + nextCar.incrementAndGet(), BigDecimal.TEN, Brand.TOYOTA, false, "Corolla");
+        return repository.tryBook(new CarBooking(UUID.randomUUID(), user, car, time));
+    }
+
+    /**
+     * Books from a single thread.
+     *
+     * @return whether the booking succeeded
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean threads01() {
+        return bookNewCar();
+    }
+
+    /**
+     * Books from four threads.
+     *
+     * @return whether the booking succeeded
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean threads04() {
+        return bookNewCar();
+    }
+
+    /**
+     * Books from sixteen threads.
+     *
+     * @return whether the booking succeeded
+     */
+    @Benchmark
+    @Threads(16)
+    public boolean threads16() {
+        return bookNewCar();
+    }
+
+    /**
+     * Books from sixty-four threads.
+     *
+     * @return whether the booking succeeded
+     */
+    @Benchmark
+    @Threads(64)
+    public boolean threads64() {
+        return bookNewCar();
+    }
+}
@@ -0,0 +1,115 @@
+package student.model.Booking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Measures durable booking throughput of {@link CarBookingLogRepository}
+ * with one and with many concurrent writers sharing group commits, and with
+ * groups of bookings stored in one call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CarBookingLogRepositoryBenchmark {
+
+    private final AtomicLong nextCar = new AtomicLong();
+    private final User user = new User(UUID.randomUUID(), "Benchmark");
+    private Path directory;
+    private CarBookingLogRepository repository;
+
+    /**
+     * Opens an empty log in a temporary directory.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("bookings");
+        repository = new CarBookingLogRepository(directory, CarBookingLogRepository.DEFAULT_SNAPSHOT_INTERVAL);
+        repository.clear();
+    }
+
+    /**
+     * Closes the log and deletes its files.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        repository.clear();
+        repository.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private CarBooking nextBooking() {
+        Car car = new Car("B" + nextCar.incrementAndGet(), new BigDecimal("55.00"), Brand.KIA, false, "Ceed");
+        return new CarBooking(UUID.randomUUID(), user, car, LocalDateTime.now());
+    }
+
+    /**
+     * Books durably from a single thread; every booking pays for its own sync.
+     */
+    @Benchmark
+    @Threads(1)
+    public void bookSingleWriter() {
+        repository.book(nextBooking());
+    }
+
+    /**
+     * Books durably from sixteen threads, letting concurrent bookings share syncs.
+     */
+    @Benchmark
+    @Threads(16)
+    public void bookConcurrentWriters() {
+        repository.book(nextBooking());
+    }
+
+    /**
+     * Books a group of 50 cars durably with one {@link CarBookingRepository#tryBookAll(List, boolean)}
+     * call; the group shares a single sync.
+     *
+     * @return the stored bookings
+     */
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(50)
+    public List<CarBooking> bookGroupOf50() {
+        List<CarBooking> group = new ArrayList<>(50);
+        for (int i = 0; i < 50; i++) group.add(nextBooking());
+        return repository.tryBookAll(group, true);
+    }
+}
@@ -0,0 +1,150 @@
+package student.model.Booking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.BenchmarkData;
+import student.model.Car.Car;
+import student.model.Car.CarService;
+import student.model.User.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures availability queries and booking on {@link CarBookingService} across
+ * fleet sizes while the booking history grows from one thousand to one million entries.
+ * <p>
+ * Every tenth car holds an active booking; the rest of the history is canceled
+ * bookings, which must not influence the cost of an availability check.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CarBookingServiceBenchmark {
+
+    /** Number of cars in the synthetic fleet. */
+    @Param({"1000", "100000"})
+    private int fleetSize;
+
+    /** Number of historical (canceled) bookings in the repository. */
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int historySize;
+
+    private CarBookingRepository bookingRepository;
+    private CarBookingService bookingService;
+    private List<Car> fleet;
+    private User user;
+    private User regular;
+    private int nextFreeCar;
+    private final LocalDateTime windowStart = LocalDateTime.now().plusDays(1);
+
+    /**
+     * Builds the fleet and fills the shared booking repository with history.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        fleet = BenchmarkData.fleet(fleetSize, BenchmarkData.DEFAULT_SEED);
+
+        bookingRepository = new CarBookingRepository();
+        bookingRepository.clear();
+        bookingService = new CarBookingService(bookingRepository, new CarService(() -> fleet));
+
+        user = new User(UUID.randomUUID(), "Benchmark");
+        LocalDateTime time = LocalDateTime.now();
+        for (int i = 0; i < historySize; i++) {
+            CarBooking booking = new CarBooking(UUID.randomUUID(), user, fleet.get(i % fleetSize), time);
+            booking.setCanceled(true);
+            bookingRepository.book(booking);
+        }
+        for (int i = 0; i < fleetSize; i += 10) {
+            bookingRepository.book(new CarBooking(UUID.randomUUID(), user, fleet.get(i), time));
+        }
+
+        regular = new User(UUID.randomUUID(), "Regular");
+        for (Car car : BenchmarkData.fleet(5, BenchmarkData.DEFAULT_SEED + 1)) {
+            Car own = new Car("R" + car.getRegNumber(), car.getRentalPricePerDay(), car.getBrand(), car.isElectric(),
+                    car.getModel());
+            bookingRepository.book(new CarBooking(UUID.randomUUID(), regular, own, time));
+        }
+    }
+
+    /**
+     * Releases the shared booking history between trials.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bookingRepository.clear();
+    }
+
+    /**
+     * Lists all available cars.
+     *
+     * @return the available cars
+     */
+    @Benchmark
+    public List<Car> getAvailableCars() {
+        return bookingService.getAvailableCars();
+    }
+
+    /**
+     * Lists cars free during a one-week window starting tomorrow.
+     *
+     * @return the available cars
+     */
+    @Benchmark
+    public List<Car> getAvailableCarsInWindow() {
+        return bookingService.getAvailableCars(windowStart, windowStart.plusWeeks(1));
+    }
+
+    /**
+     * Lists available electric cars.
+     *
+     * @return the available electric cars
+     */
+    @Benchmark
+    public List<Car> getAvailableElectricCars() {
+        return bookingService.getAvailableElectricCars();
+    }
+
+    /**
+     * Lists the cars of a user with five active bookings, amid the whole history.
+     *
+     * @return the user's booked cars
+     */
+    @Benchmark
+    public List<Car> getUserBookedCars() {
+        return bookingService.getUserBookedCars(regular.getId());
+    }
+
+    /**
+     * Books a free car and cancels the booking again, keeping the active set stable.
+     *
+     * @return the booking ID
+     */
+    @Benchmark
+    public UUID bookAndCancelCar() {
+        int car = nextFreeCar;
+        nextFreeCar = (car + 1) % fleetSize;
+        if (car % 10 == 0) car = (car + 1) % fleetSize;
+        UUID bookingId = bookingService.bookCar(user, fleet.get(car).getRegNumber()).getBookingId();
+        bookingService.cancelBooking(bookingId);
+        return bookingId;
+    }
+}
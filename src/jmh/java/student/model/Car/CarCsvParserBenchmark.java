@@ -0,0 +1,141 @@
+package student.model.Car;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.BenchmarkData;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the legacy {@code Scanner} plus {@code String.split} loader with
+ * {@link CarCsvParser} and {@link ParallelCarCsvLoader} on a generated fleet file.
+ * <p>
+ * Besides the per-file time, the {@code rows} counter reports throughput in rows per second.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CarCsvParserBenchmark {
+
+    /** Number of rows in the generated file. */
+    @Param({"100000", "1000000"})
+    private int rowCount;
+
+    private Path file;
+
+    /**
+     * Counts parsed rows, reported by JMH as rows per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        /** Rows parsed during the current iteration. */
+        public long rows;
+
+        /**
+         * Resets the counter before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    /**
+     * Writes the fleet file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("cars", ".csv");
+        BenchmarkData.writeCars(file, BenchmarkData.fleet(rowCount, BenchmarkData.DEFAULT_SEED));
+    }
+
+    /**
+     * Deletes the fleet file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Loads the file the way {@link CarFileRepository} did before {@link CarCsvParser}.
+     *
+     * @param counter the row counter
+     * @return the loaded cars
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public List<Car> scannerSplit(RowCounter counter) throws IOException {
+        List<Car> list = new ArrayList<>();
+        try (Scanner scanner = new Scanner(new File(file.toString()))) {
+            while (scanner.hasNextLine()) {
+                String[] split = scanner.nextLine().split(",");
+                if (split.length < 5) continue;
+                list.add(new Car(split[0], new BigDecimal(split[2]), Brand.valueOf(split[1]),
+                        Boolean.parseBoolean(split[3]), split[4]));
+            }
+        }
+        counter.rows += list.size();
+        return list;
+    }
+
+    /**
+     * Loads the file with {@link CarCsvParser}.
+     *
+     * @param counter the row counter
+     * @return the loaded cars
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public List<Car> byteParser(RowCounter counter) throws IOException {
+        List<Car> list = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            counter.rows += new CarCsvParser().parse(in, list::add);
+        }
+        return list;
+    }
+
+    /**
+     * Loads the file with {@link ParallelCarCsvLoader} on the common pool.
+     *
+     * @param counter the row counter
+     * @return the loaded cars
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public List<Car> parallelLoader(RowCounter counter) throws IOException {
+        List<Car> list = ParallelCarCsvLoader.load(file);
+        counter.rows += list.size();
+        return list;
+    }
+}
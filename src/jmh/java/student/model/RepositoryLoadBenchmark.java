@@ -0,0 +1,88 @@
+package student.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.Car.CarFileRepository;
+import student.model.User.User;
+import student.model.User.UserFileRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of {@link CarFileRepository} and {@link UserFileRepository}
+ * from generated files of increasing size, including index construction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class RepositoryLoadBenchmark {
+
+    /** Number of rows in each generated file. */
+    @Param({"10000", "100000", "1000000"})
+    private int rowCount;
+
+    private Path carsFile;
+    private Path usersFile;
+
+    /**
+     * Writes the car and user files.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        carsFile = Files.createTempFile("cars", ".csv");
+        usersFile = Files.createTempFile("users", ".csv");
+        BenchmarkData.writeCars(carsFile, BenchmarkData.fleet(rowCount, BenchmarkData.DEFAULT_SEED));
+        BenchmarkData.writeUsers(usersFile, BenchmarkData.users(rowCount, BenchmarkData.DEFAULT_SEED));
+    }
+
+    /**
+     * Deletes the generated files.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(carsFile);
+        Files.deleteIfExists(usersFile);
+    }
+
+    /**
+     * Loads the car file, including its lookup, price and keyword indexes.
+     *
+     * @return the loaded repository
+     */
+    @Benchmark
+    public CarFileRepository loadCars() {
+        return new CarFileRepository(carsFile.toString());
+    }
+
+    /**
+     * Loads the user file and its lookup indexes.
+     *
+     * @return the loaded users
+     */
+    @Benchmark
+    public List<User> loadUsers() {
+        return new UserFileRepository(usersFile.toString(), false).getUsers();
+    }
+}
@@ -0,0 +1,230 @@
+package student.model.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.BenchmarkData;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link CarFilterEngine} sorting, price filtering and keyword search,
+ * on plain lists and on the prebuilt {@link CarPriceIndex} and {@link CarKeywordIndex},
+ * search-as-you-type through {@link IncrementalCarSearch}, multi-criteria
+ * filtering through {@link CarQuery}, and top-k cheapest queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CarFilterEngineBenchmark {
+
+    /** Number of cars in the synthetic fleet. */
+    @Param({"1000", "100000", "1000000"})
+    private int fleetSize;
+
+    /** Keyword typed by the search-as-you-type benchmarks, one character per search. */
+    private static final String TYPED = "tesla";
+
+    /** Number of keystrokes in {@link #TYPED}. */
+    private static final int TYPED_LENGTH = 5;
+
+    /** Rows per page in the multi-criteria and top-k benchmarks, as in the GUI. */
+    private static final int PAGE_SIZE = 18;
+
+    private final BigDecimal min = new BigDecimal("50.00");
+    private final BigDecimal max = new BigDecimal("55.00");
+
+    private List<Car> cars;
+    private CarPriceIndex priceIndex;
+    private CarKeywordIndex keywordIndex;
+
+    /**
+     * Search keyword, kept in its own state so only the search benchmarks vary with it.
+     */
+    @State(Scope.Benchmark)
+    public static class Keyword {
+        /** A brand fragment, a model and a registration number fragment. */
+        @Param({"ES", "Civic", "1234"})
+        public String value;
+    }
+
+    /**
+     * Generates the fleet and builds the indexes.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        cars = BenchmarkData.fleet(fleetSize, BenchmarkData.DEFAULT_SEED);
+        priceIndex = new CarPriceIndex(cars);
+        keywordIndex = new CarKeywordIndex(cars);
+    }
+
+    /**
+     * Sorts the list by price.
+     *
+     * @return the sorted cars
+     */
+    @Benchmark
+    public List<Car> sortByPriceList() {
+        return CarFilterEngine.sortByPrice(cars);
+    }
+
+    /**
+     * Reads the price order from the index.
+     *
+     * @return the sorted cars
+     */
+    @Benchmark
+    public List<Car> sortByPriceIndex() {
+        return CarFilterEngine.sortByPrice(priceIndex);
+    }
+
+    /**
+     * Filters the list by a narrow price range.
+     *
+     * @return the matching cars
+     */
+    @Benchmark
+    public List<Car> filterByPriceRangeList() {
+        return CarFilterEngine.filterByPriceRange(cars, min, max);
+    }
+
+    /**
+     * Queries the price index for a narrow price range.
+     *
+     * @return the matching cars
+     */
+    @Benchmark
+    public List<Car> filterByPriceRangeIndex() {
+        return CarFilterEngine.filterByPriceRange(priceIndex, min, max);
+    }
+
+    /**
+     * Searches the list for the keyword.
+     *
+     * @param keyword the search keyword
+     * @return the matching cars
+     */
+    @Benchmark
+    public List<Car> searchByKeywordList(Keyword keyword) {
+        return CarFilterEngine.searchByKeyword(cars, keyword.value);
+    }
+
+    /**
+     * Searches the keyword index.
+     *
+     * @param keyword the search keyword
+     * @return the matching cars
+     */
+    @Benchmark
+    public List<Car> searchByKeywordIndex(Keyword keyword) {
+        return CarFilterEngine.searchByKeyword(keywordIndex, keyword.value);
+    }
+
+    /**
+     * Types {@link #TYPED} one character at a time, searching the keyword index from scratch per keystroke.
+     *
+     * @return the number of cars matching the full keyword
+     */
+    @Benchmark
+    @OperationsPerInvocation(TYPED_LENGTH)
+    public int typeKeywordIndex() {
+        int matches = 0;
+        for (int length = 1; length <= TYPED_LENGTH; length++) {
+            matches = keywordIndex.search(TYPED.substring(0, length)).size();
+        }
+        return matches;
+    }
+
+    /**
+     * Types {@link #TYPED} one character at a time into a fresh incremental search.
+     *
+     * @return the number of cars matching the full keyword
+     */
+    @Benchmark
+    @OperationsPerInvocation(TYPED_LENGTH)
+    public int typeKeywordIncremental() {
+        IncrementalCarSearch search = new IncrementalCarSearch(keywordIndex);
+        int matches = 0;
+        for (int length = 1; length <= TYPED_LENGTH; length++) {
+            matches = search.search(TYPED.substring(0, length)).size();
+        }
+        return matches;
+    }
+
+    /**
+     * Combines brand, electric, price and keyword filters by chaining full list copies
+     * and then takes the first page.
+     *
+     * @return the first page of matching cars
+     */
+    @Benchmark
+    public List<Car> multiCriteriaChained() {
+        List<Car> matches = cars.stream()
+                .filter(car -> car.getBrand() == Brand.TESLA)
+                .collect(Collectors.toList());
+        matches = matches.stream().filter(Car::isElectric).collect(Collectors.toList());
+        matches = CarFilterEngine.filterByPriceRange(matches, min, max);
+        matches = CarFilterEngine.searchByKeyword(matches, "model");
+        return matches.subList(0, Math.min(PAGE_SIZE, matches.size()));
+    }
+
+    /**
+     * Runs the same criteria as one {@link CarQuery} limited to the first page.
+     *
+     * @return the first page of matching cars
+     */
+    @Benchmark
+    public List<Car> multiCriteriaQuery() {
+        return new CarQuery().brand(Brand.TESLA).electric(true).priceBetween(min, max).keyword("model")
+                .limit(PAGE_SIZE)
+                .run(cars, priceIndex, keywordIndex);
+    }
+
+    /**
+     * Sorts the whole list to take the cheapest electric cars of one page.
+     *
+     * @return the cheapest electric cars
+     */
+    @Benchmark
+    public List<Car> cheapestElectricSort() {
+        return CarFilterEngine.sortByPrice(cars).stream().filter(Car::isElectric).limit(PAGE_SIZE).toList();
+    }
+
+    /**
+     * Takes the cheapest electric cars of one page with a bounded heap.
+     *
+     * @return the cheapest electric cars
+     */
+    @Benchmark
+    public List<Car> cheapestElectricHeap() {
+        return CarFilterEngine.cheapest(cars, PAGE_SIZE, Car::isElectric);
+    }
+
+    /**
+     * Takes the cheapest electric cars of one page from the price index.
+     *
+     * @return the cheapest electric cars
+     */
+    @Benchmark
+    public List<Car> cheapestElectricIndex() {
+        return priceIndex.cheapest(PAGE_SIZE, Car::isElectric);
+    }
+}
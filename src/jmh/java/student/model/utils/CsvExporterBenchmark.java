@@ -0,0 +1,110 @@
+package student.model.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import student.model.BenchmarkData;
+import student.model.Booking.CarBooking;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CsvExporter#bookings()} with the previous per-row
+ * {@code String.format} and unbuffered {@link FileWriter} export, writing real files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CsvExporterBenchmark {
+
+    /** Number of bookings to export. */
+    @Param({"100000", "1000000"})
+    private int rowCount;
+
+    private List<CarBooking> bookings;
+    private Path file;
+
+    /**
+     * Generates the bookings.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Car> fleet = BenchmarkData.fleet(rowCount, BenchmarkData.DEFAULT_SEED);
+        List<User> users = BenchmarkData.users(1000, BenchmarkData.DEFAULT_SEED);
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 12, 0);
+        bookings = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            bookings.add(new CarBooking(UUID.randomUUID(), users.get(i % users.size()), fleet.get(i), time.plusMinutes(i)));
+        }
+        file = Files.createTempFile("bookings", ".csv");
+    }
+
+    /**
+     * Deletes the export file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Exports through the streaming exporter.
+     *
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    @Benchmark
+    public long exporter() throws IOException {
+        return CsvExporter.bookings().export(file, bookings);
+    }
+
+    /**
+     * Exports the way the GUI controller did before the exporter existed.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Benchmark
+    public void stringFormat() throws IOException {
+        try (FileWriter writer = new FileWriter(file.toFile())) {
+            writer.write("BookingID,User,Brand,Model,CarReg,Price,Time,Canceled\n");
+            for (CarBooking b : bookings) {
+                writer.write(String.format("%s,%s,%s,%s,%s,%s,%s,%s\n",
+                        b.getBookingId(),
+                        b.getUser().getName(),
+                        b.getCar().getBrand(),
+                        b.getCar().getModel(),
+                        b.getCar().getRegNumber(),
+                        b.getCar().getRentalPricePerDay(),
+                        b.getBookingTime(),
+                        b.isCanceled()));
+            }
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package student;
+
+import student.model.Booking.CarBooking;
+import student.model.Booking.CarBookingRepository;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.Car.CarRepository;
+import student.model.User.User;
+import student.model.User.UserRepository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Generates deterministic synthetic data for scale testing.
+ * <p>
+ * Given the same seed and settings, the generator always produces the same
+ * cars, users and booking events, byte for byte. It writes:
+ * </p>
+ * <ul>
+ *   <li>{@code cars.csv} in the {@code regNumber,brand,price,isElectric,model} format
+ *       read by {@link student.model.Car.CarFileRepository},</li>
+ *   <li>{@code users.csv} in the {@code UUID,name} format read by
+ *       {@link student.model.User.UserFileRepository},</li>
+ *   <li>{@code booking_events.csv}, a stream of {@code BOOK,bookingId,userId,regNumber,epochSecond}
+ *       and {@code CANCEL,bookingId,epochSecond} lines that never books a car twice
+ *       and only cancels active bookings.</li>
+ * </ul>
+ * <p>
+ * Brand distribution, electric ratio and price skew are configurable. Car {@code i}
+ * has registration number {@code 100000 + i} and user {@code i} is named {@code user<i>},
+ * so generated events can be resolved against the generated files.
+ * </p>
+ *
+ * <p>Usage: {@code DataGenerator [out=build/generated-data] [cars=1000000] [users=100000] [events=0]
+ * [seed=5004] [electricRatio=0.3] [priceSkew=1.0] [minPrice=20.00] [maxPrice=150.00]
+ * [brandWeights=TESLA:2,KIA:1] [force=false]}</p>
+ *
+ * <p>Existing files are only overwritten with {@code force=true}, so the tracked
+ * {@code data/cars.csv} used by the application and its tests is never replaced by accident.</p>
+ */
+public class DataGenerator {
+
+    /**
+     * Registration number of the first generated car.
+     */
+    public static final int FIRST_REG_NUMBER = 100_000;
+
+    /**
+     * Directory written to if no {@code out} option is given.
+     */
+    public static final String DEFAULT_OUTPUT_DIRECTORY = "build/generated-data";
+
+    /**
+     * Model names per brand, by brand ordinal.
+     */
+    private static final String[][] MODELS = {
+            {"Model 3", "Model S", "Model X", "Model Y"},
+            {"A4", "A6", "Q5", "e-tron"},
+            {"C-Class", "E-Class", "GLC", "EQS"},
+            {"Corolla", "Camry", "Prius", "RAV4"},
+            {"Civic", "Accord", "CR-V", "Fit"},
+            {"Han", "Tang", "Dolphin", "Seal"},
+            {"SU7"},
+            {"Outback", "Forester", "Impreza"},
+            {"EV6", "Sportage", "Rio", "Niro"}
+    };
+
+    /**
+     * Epoch second of the first generated booking event (2024-01-01T00:00:00Z).
+     */
+    private static final long FIRST_EVENT_SECOND = 1_704_067_200L;
+
+    private final long seed;
+    private double electricRatio = 0.3;
+    private double priceSkew = 1.0;
+    private long minPriceCents = 2_000;
+    private long maxPriceCents = 15_000;
+    private double cancelRatio = 0.4;
+    private final double[] brandWeights = new double[Brand.values().length];
+
+    /**
+     * Constructs a generator with the given seed, a uniform brand distribution,
+     * 30% electric cars and uniformly distributed prices between 20.00 and 150.00.
+     *
+     * @param seed the random seed
+     */
+    public DataGenerator(long seed) {
+        this.seed = seed;
+        Arrays.fill(brandWeights, 1.0);
+    }
+
+    /**
+     * Sets the fraction of electric cars.
+     *
+     * @param electricRatio a value between 0 and 1
+     * @throws IllegalArgumentException if the ratio is out of range
+     */
+    public void setElectricRatio(double electricRatio) {
+        if (electricRatio < 0 || electricRatio > 1) {
+            throw new IllegalArgumentException("Electric ratio must be between 0 and 1: " + electricRatio);
+        }
+        this.electricRatio = electricRatio;
+    }
+
+    /**
+     * Sets the price skew. Prices are {@code min + (max - min) * u^skew} for uniform {@code u},
+     * so {@code 1} is uniform, values above 1 favor cheap cars and values below 1 favor expensive ones.
+     *
+     * @param priceSkew a positive exponent
+     * @throws IllegalArgumentException if the skew is not positive
+     */
+    public void setPriceSkew(double priceSkew) {
+        if (!(priceSkew > 0)) {
+            throw new IllegalArgumentException("Price skew must be positive: " + priceSkew);
+        }
+        this.priceSkew = priceSkew;
+    }
+
+    /**
+     * Sets the range of generated daily prices.
+     *
+     * @param min the lowest price
+     * @param max the highest price
+     * @throws IllegalArgumentException if the range is empty or negative
+     */
+    public void setPriceRange(BigDecimal min, BigDecimal max) {
+        long minCents = min.movePointRight(2).longValue();
+        long maxCents = max.movePointRight(2).longValue();
+        if (minCents < 0 || maxCents < minCents) {
+            throw new IllegalArgumentException("Invalid price range: " + min + " - " + max);
+        }
+        this.minPriceCents = minCents;
+        this.maxPriceCents = maxCents;
+    }
+
+    /**
+     * Sets the relative weight of a brand; brands default to a weight of 1.
+     *
+     * @param brand  the brand
+     * @param weight a non-negative weight; 0 excludes the brand
+     * @throws IllegalArgumentException if the weight is negative
+     */
+    public void setBrandWeight(Brand brand, double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Brand weight must not be negative: " + weight);
+        }
+        brandWeights[brand.ordinal()] = weight;
+    }
+
+    /**
+     * Sets the fraction of booking events that cancel an active booking.
+     *
+     * @param cancelRatio a value between 0 and 1
+     * @throws IllegalArgumentException if the ratio is out of range
+     */
+    public void setCancelRatio(double cancelRatio) {
+        if (cancelRatio < 0 || cancelRatio > 1) {
+            throw new IllegalArgumentException("Cancel ratio must be between 0 and 1: " + cancelRatio);
+        }
+        this.cancelRatio = cancelRatio;
+    }
+
+    /**
+     * Generates cars and passes them to the sink in order.
+     *
+     * @param count number of cars
+     * @param sink  receives each car
+     * @throws IllegalStateException if every brand weight is zero
+     */
+    public void generateCars(int count, Consumer<Car> sink) {
+        double[] cumulative = cumulativeBrandWeights();
+        Brand[] brands = Brand.values();
+        Random random = new Random(seed);
+        long span = maxPriceCents - minPriceCents;
+
+        for (int i = 0; i < count; i++) {
+            Brand brand = brands[pickBrand(cumulative, random.nextDouble())];
+            String[] models = MODELS[brand.ordinal() % MODELS.length];
+            long cents = minPriceCents + Math.round(span * Math.pow(random.nextDouble(), priceSkew));
+            sink.accept(new Car(String.valueOf(FIRST_REG_NUMBER + i),
+                    BigDecimal.valueOf(cents, 2),
+                    brand,
+                    random.nextDouble() < electricRatio,
+                    models[random.nextInt(models.length)]));
+        }
+    }
+
+    /**
+     * Generates a list of cars.
+     *
+     * @param count number of cars
+     * @return the generated cars
+     */
+    public List<Car> cars(int count) {
+        List<Car> cars = new ArrayList<>(count);
+        generateCars(count, cars::add);
+        return cars;
+    }
+
+    /**
+     * Returns the generated user with the given index. Users are derived from the
+     * seed and index alone, so any user can be recreated without generating the others.
+     *
+     * @param index the user index
+     * @return the user
+     */
+    public User user(int index) {
+        long high = mix(seed ^ 0x5DEECE66DL, index);
+        long low = mix(seed ^ 0xB5297A4DL, index);
+        high = (high & ~0xF000L) | 0x4000L;
+        low = (low & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new User(new UUID(high, low), "user" + index);
+    }
+
+    /**
+     * Generates a list of users.
+     *
+     * @param count number of users
+     * @return the generated users
+     */
+    public List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) users.add(user(i));
+        return users;
+    }
+
+    /**
+     * Writes generated cars to a CSV file.
+     *
+     * @param file  the target file
+     * @param count number of cars
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCars(Path file, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            IOException[] failure = new IOException[1];
+            StringBuilder line = new StringBuilder(64);
+            generateCars(count, car -> {
+                if (failure[0] != null) return;
+                line.setLength(0);
+                line.append(car.getRegNumber()).append(',').append(car.getBrand()).append(',');
+                car.getRentalPrice().appendTo(line)
+                        .append(',').append(car.isElectric()).append(',').append(car.getModel()).append('\n');
+                try {
+                    writer.append(line);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) throw failure[0];
+        }
+    }
+
+    /**
+     * Writes generated users to a CSV file.
+     *
+     * @param file  the target file
+     * @param count number of users
+     * @throws IOException if the file cannot be written
+     */
+    public void writeUsers(Path file, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < count; i++) {
+                User user = user(i);
+                writer.write(user.getId() + "," + user.getName() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Writes a booking and cancellation event stream over the given fleet and users.
+     * Booking events pick a random car without an active booking; cancellation events
+     * pick a random active booking. Events are one second apart.
+     *
+     * @param file      the target file
+     * @param count     number of events
+     * @param carCount  number of generated cars to book from
+     * @param userCount number of generated users to book for
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if there are no cars or users
+     */
+    public void writeBookingEvents(Path file, int count, int carCount, int userCount) throws IOException {
+        if (carCount <= 0 || userCount <= 0) {
+            throw new IllegalArgumentException("Booking events need at least one car and one user.");
+        }
+        Random random = new Random(seed ^ 0x2545F4914F6CDD1DL);
+        int[] carByBooking = new int[carCount];
+        UUID[] activeBookings = new UUID[carCount];
+        int[] freeCars = new int[carCount];
+        for (int i = 0; i < carCount; i++) freeCars[i] = i;
+        int freeCount = carCount;
+        int activeCount = 0;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int e = 0; e < count; e++) {
+                long second = FIRST_EVENT_SECOND + e;
+                boolean cancel = activeCount > 0 && (freeCount == 0 || random.nextDouble() < cancelRatio);
+                if (cancel) {
+                    int slot = random.nextInt(activeCount);
+                    UUID bookingId = activeBookings[slot];
+                    int car = carByBooking[slot];
+                    activeCount--;
+                    activeBookings[slot] = activeBookings[activeCount];
+                    carByBooking[slot] = carByBooking[activeCount];
+                    freeCars[freeCount++] = car;
+                    writer.write("CANCEL," + bookingId + "," + second + "\n");
+                } else {
+                    int pick = random.nextInt(freeCount);
+                    int car = freeCars[pick];
+                    freeCars[pick] = freeCars[--freeCount];
+                    UUID bookingId = new UUID(random.nextLong(), random.nextLong());
+                    activeBookings[activeCount] = bookingId;
+                    carByBooking[activeCount] = car;
+                    activeCount++;
+                    User user = user(random.nextInt(userCount));
+                    writer.write("BOOK," + bookingId + "," + user.getId() + "," + (FIRST_REG_NUMBER + car)
+                            + "," + second + "\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays a booking event stream written by {@link #writeBookingEvents(Path, int, int, int)}
+     * into a booking repository, resolving cars and users through their repositories.
+     *
+     * @param file     the event file
+     * @param bookings the repository to book into
+     * @param cars     the repository holding the generated cars
+     * @param users    the repository holding the generated users
+     * @return the number of events applied
+     * @throws IOException if the file cannot be read
+     * @throws IllegalStateException if an event refers to an unknown car or user
+     */
+    public static int applyBookingEvents(Path file, CarBookingRepository bookings,
+                                         CarRepository cars, UserRepository users) throws IOException {
+        int applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] split = line.split(",");
+                if (split[0].equals("CANCEL")) {
+                    bookings.cancelCarBooking(UUID.fromString(split[1]));
+                } else {
+                    Car car = cars.findByRegNumber(split[3]);
+                    User user = users.getUserById(UUID.fromString(split[2]));
+                    if (car == null || user == null) {
+                        throw new IllegalStateException("Unknown car or user in booking event: " + line);
+                    }
+                    LocalDateTime time = LocalDateTime.ofEpochSecond(Long.parseLong(split[4]), 0, ZoneOffset.UTC);
+                    bookings.book(new CarBooking(UUID.fromString(split[1]), user, car, time));
+                }
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Builds cumulative brand weights for sampling.
+     *
+     * @return cumulative weights, normalized to end at 1
+     * @throws IllegalStateException if all weights are zero
+     */
+    private double[] cumulativeBrandWeights() {
+        double total = 0;
+        for (double weight : brandWeights) total += weight;
+        if (total <= 0) throw new IllegalStateException("At least one brand needs a positive weight.");
+
+        double[] cumulative = new double[brandWeights.length];
+        double running = 0;
+        for (int i = 0; i < brandWeights.length; i++) {
+            running += brandWeights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Picks the brand whose cumulative weight interval contains {@code u}.
+     *
+     * @param cumulative cumulative brand weights
+     * @param u          a uniform value in {@code [0, 1)}
+     * @return the brand ordinal
+     */
+    private static int pickBrand(double[] cumulative, double u) {
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (u < cumulative[i]) return i;
+        }
+        return cumulative.length - 1;
+    }
+
+    /**
+     * SplitMix64 mixing of a seed and an index.
+     *
+     * @param seed  the seed
+     * @param index the index
+     * @return a well-distributed 64-bit value
+     */
+    private static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Writes {@code cars.csv}, {@code users.csv} and, if requested, {@code booking_events.csv}.
+     *
+     * @param args {@code key=value} options; see the class documentation
+     * @throws IOException if a file cannot be written
+     * @throws IllegalArgumentException if an option is unknown or invalid
+     * @throws IllegalStateException if an output file exists and {@code force=true} is not given
+     */
+    public static void main(String[] args) throws IOException {
+        Path out = Path.of(DEFAULT_OUTPUT_DIRECTORY);
+        int cars = 1_000_000;
+        int users = 100_000;
+        int events = 0;
+        long seed = 5004L;
+        boolean force = false;
+        List<String[]> settings = new ArrayList<>();
+
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            switch (pair[0]) {
+                case "out" -> out = Path.of(pair[1]);
+                case "cars" -> cars = Integer.parseInt(pair[1]);
+                case "users" -> users = Integer.parseInt(pair[1]);
+                case "events" -> events = Integer.parseInt(pair[1]);
+                case "seed" -> seed = Long.parseLong(pair[1]);
+                case "force" -> force = Boolean.parseBoolean(pair[1]);
+                default -> settings.add(pair);
+            }
+        }
+
+        DataGenerator generator = new DataGenerator(seed);
+        BigDecimal minPrice = BigDecimal.valueOf(generator.minPriceCents, 2);
+        BigDecimal maxPrice = BigDecimal.valueOf(generator.maxPriceCents, 2);
+        for (String[] setting : settings) {
+            switch (setting[0]) {
+                case "electricRatio" -> generator.setElectricRatio(Double.parseDouble(setting[1]));
+                case "priceSkew" -> generator.setPriceSkew(Double.parseDouble(setting[1]));
+                case "cancelRatio" -> generator.setCancelRatio(Double.parseDouble(setting[1]));
+                case "minPrice" -> minPrice = new BigDecimal(setting[1]);
+                case "maxPrice" -> maxPrice = new BigDecimal(setting[1]);
+                case "brandWeights" -> {
+                    Arrays.fill(generator.brandWeights, 0);
+                    for (String entry : setting[1].split(",")) {
+                        String[] weight = entry.split(":", 2);
+                        generator.setBrandWeight(Brand.valueOf(weight[0].trim().toUpperCase(Locale.ROOT)),
+                                weight.length == 2 ? Double.parseDouble(weight[1]) : 1.0);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + setting[0]);
+            }
+        }
+        generator.setPriceRange(minPrice, maxPrice);
+
+        List<Path> files = new ArrayList<>(List.of(out.resolve("cars.csv"), out.resolve("users.csv")));
+        if (events > 0) files.add(out.resolve("booking_events.csv"));
+        for (Path file : files) {
+            if (!force && Files.exists(file)) {
+                throw new IllegalStateException("❌ " + file + " already exists; pass force=true to overwrite it");
+            }
+        }
+
+        Files.createDirectories(out);
+        long start = System.nanoTime();
+        generator.writeCars(out.resolve("cars.csv"), cars);
+        generator.writeUsers(out.resolve("users.csv"), users);
+        if (events > 0) generator.writeBookingEvents(out.resolve("booking_events.csv"), events, cars, users);
+        System.out.printf("✅ Wrote %d cars, %d users and %d booking events to %s in %d ms%n",
+                cars, users, events, out, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -3,6 +3,8 @@ package student;
 import student.controller.CarRentalCLIController;
 import student.controller.CarRentalControllerInterface;
 import student.controller.CarRentalGUIController;
+import student.controller.GuiTaskRunner;
+import student.model.Booking.CarBookingLogRepository;
 import student.model.Booking.CarBookingRepository;
 import student.model.Booking.CarBookingService;
 import student.model.Car.CarFileRepository;
@@ -28,9 +30,18 @@ import java.util.Scanner;
  *   <li><b>cli</b> - launches a command-line interface using {@link student.view.cli.CarRentalCLIView}</li>
  *   <li><b>gui</b> - launches a Swing-based GUI using {@link student.view.gui.CarRentalGUIView}</li>
  * </ul>
+ *
+ * <p>Bookings are kept in memory unless the application is started with
+ * {@code --booking-log=<directory>}, which persists them in a {@link CarBookingLogRepository}
+ * in that directory. The log is closed when the application exits.</p>
  */
 public class Main {
 
+    /**
+     * Command-line option that enables the durable booking log.
+     */
+    static final String BOOKING_LOG_OPTION = "--booking-log=";
+
     /**
      * Initializes the application components and launches either CLI or GUI mode.
      *
@@ -43,15 +54,17 @@ public class Main {
      *   <li>Starts the controller's main loop via {@code run()}</li>
      * </ol>
      *
-     * @param args command-line arguments (unused)
+     * @param args command-line arguments; {@code --booking-log=<directory>} enables the booking log
      */
     public static void main(String[] args) {
 
         // Initialize core services
-        CarRepository carRepo = new CarFileRepository();
+        CarFileRepository carRepo = new CarFileRepository();
+        System.out.printf("✅ Loaded %d cars (%.0f rows/s)%n",
+                carRepo.getAllCars().size(), carRepo.getLoadRowsPerSecond());
         CarService carService = new CarService(carRepo);
 
-        CarBookingRepository bookingRepo = new CarBookingRepository();
+        CarBookingRepository bookingRepo = createBookingRepository(args);
         CarBookingService bookingService = new CarBookingService(bookingRepo, carService);
 
         UserRepository userRepo = new UserFileRepository(); // UserFileRepository() / UserArrayRepository
@@ -68,9 +81,29 @@ public class Main {
             controller = new CarRentalCLIController(carService, bookingService, userService, view);
         } else {
             CarRentalGUIView guiView = new CarRentalGUIView(carService, bookingService, userService);
-            controller = new CarRentalGUIController(carService, bookingService, userService, guiView);
+            controller = new CarRentalGUIController(carService, bookingService, userService, guiView,
+                    GuiTaskRunner.background());
         }
 
         controller.run();
     }
+
+    /**
+     * Creates the booking repository selected by the command-line arguments.
+     * A booking log is closed by a shutdown hook, so queued records are flushed on exit.
+     *
+     * @param args command-line arguments
+     * @return a {@link CarBookingLogRepository} if {@code --booking-log=<directory>} is given,
+     * otherwise an in-memory {@link CarBookingRepository}
+     */
+    static CarBookingRepository createBookingRepository(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(BOOKING_LOG_OPTION)) {
+                CarBookingLogRepository log = new CarBookingLogRepository(arg.substring(BOOKING_LOG_OPTION.length()));
+                Runtime.getRuntime().addShutdownHook(new Thread(log::close));
+                return log;
+            }
+        }
+        return new CarBookingRepository();
+    }
 }
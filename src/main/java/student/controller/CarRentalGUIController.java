@@ -6,14 +6,16 @@ import student.model.Car.Car;
 import student.model.Car.CarService;
 import student.model.User.User;
 import student.model.User.UserService;
+import student.model.utils.CarQuery;
+import student.model.utils.CsvExporter;
+import student.model.utils.PageSource;
 import student.view.gui.CarRentalGUIView;
 
 import javax.swing.*;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Controller class for handling GUI-based interactions in the Car Rental System.
@@ -45,8 +47,19 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
      */
     private final CarRentalGUIView guiView;
 
+    /**
+     * The most recently started bookings export, or {@code null} if none has run.
+     */
+    private CsvExportWorker<CarBooking> exportWorker;
+
+    /**
+     * Runs service queries off the event dispatch thread and applies the latest result.
+     */
+    private final GuiTaskRunner tasks;
+
     /**
      * Constructs a GUI controller with required service and view components.
+     * Service queries run synchronously on the calling thread.
      *
      * @param carService      The service for car-related operations.
      * @param bookingService  The service for booking-related operations.
@@ -57,10 +70,30 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
                                   CarBookingService bookingService,
                                   UserService userService,
                                   CarRentalGUIView guiView) {
+        this(carService, bookingService, userService, guiView, GuiTaskRunner.direct());
+    }
+
+    /**
+     * Constructs a GUI controller that runs service queries through the given runner,
+     * showing the view as busy while queries are pending.
+     *
+     * @param carService      The service for car-related operations.
+     * @param bookingService  The service for booking-related operations.
+     * @param userService     The service for user account operations.
+     * @param guiView         The GUI view for user interaction.
+     * @param tasks           Runs service queries, e.g. {@link GuiTaskRunner#background()}.
+     */
+    public CarRentalGUIController(CarService carService,
+                                  CarBookingService bookingService,
+                                  UserService userService,
+                                  CarRentalGUIView guiView,
+                                  GuiTaskRunner tasks) {
         this.carService = carService;
         this.bookingService = bookingService;
         this.userService = userService;
         this.guiView = guiView;
+        this.tasks = tasks;
+        tasks.setBusyListener(guiView::setBusy);
     }
 
     /**
@@ -77,21 +110,21 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
      * Displays all currently available cars.
      */
     public void handleViewAvailableCars() {
-        guiView.showCars(bookingService.getAvailableCars());
+        handleCarPage(bookingService.pageAvailableCars(false), 0);
     }
 
     /**
      * Displays only available electric cars.
      */
     public void handleViewElectricCars() {
-        guiView.showCars(bookingService.getAvailableElectricCars());
+        handleCarPage(bookingService.pageAvailableCars(true), 0);
     }
 
     /**
      * Displays cars sorted by rental price (ascending).
      */
     public void handleSortByPrice() {
-        guiView.showCars(carService.sortCarsByPrice());
+        handleCarPage(carService.pageCars(new CarQuery().sortByPrice()), 0);
     }
 
     /**
@@ -106,8 +139,7 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
             BigDecimal min = new BigDecimal(minStr.trim());
             BigDecimal max = new BigDecimal(maxStr.trim());
 
-            List<Car> filtered = carService.getCarsByPriceRange(min, max);
-            guiView.showCars(filtered);
+            handleCarPage(carService.pageCars(new CarQuery().priceBetween(min, max).sortByPrice()), 0);
         } catch (Exception e) {
             JOptionPane.showMessageDialog(guiView, "❌ Invalid input.");
         }
@@ -120,26 +152,26 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
         String keyword = JOptionPane.showInputDialog(guiView, "Enter keyword:");
         if (keyword == null || keyword.isBlank()) return;
 
-        List<Car> result = carService.searchCars(keyword.trim().toLowerCase());
-        guiView.showCars(result);
+        handleCarPage(carService.pageCars(new CarQuery().keyword(keyword.trim())), 0);
     }
 
     /**
      * Displays all registered users in the system.
      */
     public void handleViewUsers() {
-        guiView.showUsers(userService.getUsers());
+        tasks.submit(userService::getUsers, guiView::showUsers, this::showQueryError);
     }
 
     /**
      * Displays all bookings in the system.
      */
     public void handleViewBookings() {
-        guiView.showBookings(bookingService.getBookings());
+        tasks.submit(bookingService::getBookingsSnapshot, guiView::showBookings, this::showQueryError);
     }
 
     /**
      * Handles the booking process for a selected car by prompting the user to choose a user.
+     * The users are loaded and the booking is made through the task runner.
      *
      * @param selectedCar The car to be booked.
      */
@@ -149,33 +181,28 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
             return;
         }
 
-        List<User> users = userService.getUsers();
-        String[] userNames = users.stream().map(User::getName).toArray(String[]::new);
-        String selectedUser = (String) JOptionPane.showInputDialog(guiView, "Select user:", "Booking",
-                JOptionPane.PLAIN_MESSAGE, null, userNames, userNames[0]);
+        tasks.submit(userService::getUsers, users -> {
+            String[] userNames = users.stream().map(User::getName).toArray(String[]::new);
+            String selectedUser = (String) JOptionPane.showInputDialog(guiView, "Select user:", "Booking",
+                    JOptionPane.PLAIN_MESSAGE, null, userNames, userNames[0]);
 
-        if (selectedUser == null) return;
+            if (selectedUser == null) return;
 
-        User user = users.stream()
-                .filter(u -> u.getName().equals(selectedUser))
-                .findFirst().orElse(null);
+            User user = users.stream()
+                    .filter(u -> u.getName().equals(selectedUser))
+                    .findFirst().orElse(null);
 
-        if (user == null) {
-            JOptionPane.showMessageDialog(guiView, "❌ User not found.");
-            return;
-        }
+            if (user == null) {
+                JOptionPane.showMessageDialog(guiView, "❌ User not found.");
+                return;
+            }
 
-        try {
-            UUID bookingId = bookingService.bookCar(user, selectedCar.getRegNumber());
-            JOptionPane.showMessageDialog(guiView, "✅ Booking successful! ID: " + bookingId);
-            guiView.showCars(bookingService.getAvailableCars());
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(guiView, "❌ Booking failed: " + e.getMessage());
-        }
+            bookCar(selectedCar, user);
+        }, this::showQueryError);
     }
 
     /**
-     * Cancels a selected booking.
+     * Cancels a selected booking through the task runner and shows the updated bookings.
      *
      * @param booking The booking to cancel.
      */
@@ -190,36 +217,48 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
             return;
         }
 
-        try {
+        tasks.execute(() -> {
             bookingService.cancelBooking(booking.getBookingId());
+            return bookingService.getBookingsSnapshot();
+        }, bookings -> {
             JOptionPane.showMessageDialog(guiView, "✅ Booking canceled.");
-            guiView.showBookings(bookingService.getBookings());
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(guiView, "❌ Failed to cancel: " + e.getMessage());
-        }
+            guiView.showBookings(bookings);
+        }, e -> JOptionPane.showMessageDialog(guiView, "❌ Failed to cancel: " + e.getMessage()));
     }
 
     /**
-     * Exports all bookings in the system to a CSV file.
+     * Exports all bookings in the system to a CSV file via {@link CsvExporter#bookings()}.
+     * <p>
+     * The bookings are snapshotted under the repository lock and written by a
+     * {@link CsvExportWorker} in the background, with progress shown in the status bar.
+     * Only one export runs at a time; {@link #handleCancelExport()} stops it.
+     * </p>
      */
     public void handleExportBookings() {
-        List<CarBooking> bookings = bookingService.getBookings();
-        try (FileWriter writer = new FileWriter("bookings_export.csv")) {
-            writer.write("BookingID,User,Brand,Model,CarReg,Price,Time,Canceled\n");
-            for (CarBooking b : bookings) {
-                writer.write(String.format("%s,%s,%s,%s,%s,%s,%s,%s\n",
-                        b.getBookingId(),
-                        b.getUser().getName(),
-                        b.getCar().getBrand(),
-                        b.getCar().getModel(),
-                        b.getCar().getRegNumber(),
-                        b.getCar().getRentalPricePerDay(),
-                        b.getBookingTime(),
-                        b.isCanceled()));
+        if (exportWorker != null && !exportWorker.isDone()) {
+            guiView.setStatus("⚠️ Export already running");
+            return;
+        }
+        List<CarBooking> snapshot = bookingService.getBookingsSnapshot();
+        CsvExportWorker<CarBooking> worker = new CsvExportWorker<>(CsvExporter.bookings(), snapshot,
+                Path.of("bookings_export.csv"), guiView::setStatus,
+                e -> JOptionPane.showMessageDialog(guiView, "❌ Export failed: " + e.getMessage()));
+        worker.addPropertyChangeListener(e -> {
+            if ("state".equals(e.getPropertyName())) {
+                guiView.setExportRunning(e.getNewValue() != SwingWorker.StateValue.DONE);
             }
-            JOptionPane.showMessageDialog(guiView, "✅ Exported to bookings_export.csv");
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(guiView, "❌ Export failed: " + e.getMessage());
+        });
+        exportWorker = worker;
+        guiView.setStatus("⏳ Exporting " + snapshot.size() + " bookings...");
+        worker.execute();
+    }
+
+    /**
+     * Cancels the running bookings export, if any; no partial file is left behind.
+     */
+    public void handleCancelExport() {
+        if (exportWorker != null && !exportWorker.isDone()) {
+            exportWorker.cancel(false);
         }
     }
 
@@ -263,13 +302,7 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
             return;
         }
 
-        try {
-            UUID bookingId = bookingService.bookCar(user, selectedCar.getRegNumber());
-            JOptionPane.showMessageDialog(guiView, "✅ Booking successful! ID: " + bookingId);
-            guiView.showCars(bookingService.getAvailableCars());
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(guiView, "❌ Booking failed: " + e.getMessage());
-        }
+        bookCar(selectedCar, user);
     }
 
     /**
@@ -278,28 +311,80 @@ public class CarRentalGUIController implements CarRentalControllerInterface {
      * @param user The user whose bookings are to be shown.
      */
     public void handleViewMyBookings(User user) {
-        List<CarBooking> all = bookingService.getBookings();
-        List<CarBooking> mine = all.stream()
-                .filter(b -> b.getUser().getId().equals(user.getId()) && !b.isCanceled())
-                .toList();
+        tasks.submit(() -> bookingService.getUserBookings(user.getId()), mine -> {
+            if (mine.isEmpty()) {
+                JOptionPane.showMessageDialog(guiView, "❌ You have no active bookings.");
+                return;
+            }
+            guiView.showBookings(mine);
+        }, this::showQueryError);
+    }
 
-        if (mine.isEmpty()) {
-            JOptionPane.showMessageDialog(guiView, "❌ You have no active bookings.");
+    /**
+     * Searches for cars based on a provided keyword.
+     *
+     * @param keyword The search keyword to apply (brand, model, reg number).
+     */
+    public void handleSearchByKeyword(String keyword) {
+        handleCarPage(carService.pageCars(new CarQuery().keyword(keyword)), 0);
+    }
+
+    /**
+     * Searches cars as the user types, refining the results of earlier keystrokes.
+     * A blank keyword shows all available cars again.
+     *
+     * @param keyword The keyword typed so far.
+     */
+    public void handleSearchAsYouType(String keyword) {
+        if (keyword.isBlank()) {
+            handleViewAvailableCars();
             return;
         }
+        String query = keyword.trim();
+        showCars(() -> carService.searchCarsIncremental(query));
+    }
 
-        guiView.showBookings(mine);
+    /**
+     * Fetches one page of cars through the task runner and shows it, unless a newer query
+     * supersedes it. Only the rows of that page are computed.
+     *
+     * @param source    the source to fetch from
+     * @param pageIndex the index of the page (0-based)
+     */
+    public void handleCarPage(PageSource<Car> source, int pageIndex) {
+        tasks.submit(() -> source.fetch(pageIndex, CarRentalGUIView.PAGE_SIZE),
+                page -> guiView.showCarPage(source, page), this::showQueryError);
     }
 
     /**
-     * Searches for cars based on a provided keyword.
+     * Runs a car query through the task runner and shows its result, unless a newer query supersedes it.
      *
-     * @param keyword The search keyword to apply (brand, model, reg number).
+     * @param query the car query
      */
-    public void handleSearchByKeyword(String keyword) {
-        List<Car> result = carService.searchCars(keyword.toLowerCase());
-        guiView.showCars(result);
+    private void showCars(Supplier<List<Car>> query) {
+        tasks.submit(query, guiView::showCars, this::showQueryError);
+    }
+
+    /**
+     * Books a car through the task runner, then reports the outcome and shows the available cars.
+     *
+     * @param car  the car to book
+     * @param user the user making the booking
+     */
+    private void bookCar(Car car, User user) {
+        tasks.execute(() -> bookingService.bookCar(user, car.getRegNumber()), booking -> {
+            JOptionPane.showMessageDialog(guiView, "✅ Booking successful! ID: " + booking.getBookingId());
+            handleViewAvailableCars();
+        }, e -> JOptionPane.showMessageDialog(guiView, "❌ Booking failed: " + e.getMessage()));
     }
 
+    /**
+     * Reports a failed service query.
+     *
+     * @param e the failure
+     */
+    private void showQueryError(Exception e) {
+        JOptionPane.showMessageDialog(guiView, "❌ " + e.getMessage());
+    }
 
 }
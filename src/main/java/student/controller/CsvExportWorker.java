@@ -0,0 +1,180 @@
+package student.controller;
+
+import student.model.utils.CsvExporter;
+
+import javax.swing.SwingWorker;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link CsvExporter} export off the Swing event dispatch thread.
+ * <p>
+ * Rows are written to a temporary file next to the target, which is renamed onto
+ * the target only once the export has completed, so a canceled or failed export
+ * never leaves a partial file behind. Progress is published every
+ * {@value #PROGRESS_INTERVAL} rows and reported, like the final outcome, through
+ * a status callback that runs on the event dispatch thread.
+ * </p>
+ *
+ * <p>{@link #cancel(boolean)} stops the export at the next progress check, which also
+ * runs on the first row and right before the rename, and deletes the temporary file
+ * without touching the target.</p>
+ *
+ * @param <T> the row type
+ */
+public class CsvExportWorker<T> extends SwingWorker<Long, Long> {
+
+    /**
+     * Number of rows between progress updates and cancellation checks.
+     */
+    static final int PROGRESS_INTERVAL = 1 << 14;
+
+    private final CsvExporter<T> exporter;
+    private final List<? extends T> rows;
+    private final Path target;
+    private final Consumer<String> status;
+    private final Consumer<Exception> onFailure;
+
+    /**
+     * Counted down once the background export has stopped and cleaned up.
+     */
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    /**
+     * Constructs an export worker.
+     *
+     * @param exporter  the exporter writing the rows
+     * @param rows      the rows to export; must not change while the export runs
+     * @param target    the file to create or replace
+     * @param status    receives progress and outcome messages on the event dispatch thread
+     * @param onFailure receives the cause if the export fails, on the event dispatch thread
+     */
+    public CsvExportWorker(CsvExporter<T> exporter, List<? extends T> rows, Path target,
+                           Consumer<String> status, Consumer<Exception> onFailure) {
+        this.exporter = exporter;
+        this.rows = rows;
+        this.target = target;
+        this.status = status;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Exports the rows to a temporary file and renames it onto the target.
+     *
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written or renamed
+     */
+    @Override
+    protected Long doInBackground() throws IOException {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName() + ".", ".tmp");
+            long written = exporter.export(temp, this::progressRows);
+            if (isCancelled()) throw new CancellationException("Export canceled");
+            moveOnto(temp, target);
+            return written;
+        } finally {
+            if (temp != null) Files.deleteIfExists(temp);
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Shows the latest progress.
+     *
+     * @param chunks row counts published since the last call
+     */
+    @Override
+    protected void process(List<Long> chunks) {
+        status.accept("⏳ Exporting " + target.getFileName() + ": "
+                + chunks.get(chunks.size() - 1) + " / " + rows.size() + " rows");
+    }
+
+    /**
+     * Reports the outcome of the export.
+     */
+    @Override
+    protected void done() {
+        if (isCancelled()) {
+            status.accept("⚠️ Export canceled, " + target.getFileName() + " left unchanged");
+            return;
+        }
+        try {
+            status.accept("✅ Exported " + get() + " rows to " + target.getFileName()
+                    + String.format(" (%.0f rows/s)", exporter.getRowsPerSecond()));
+        } catch (ExecutionException e) {
+            status.accept("❌ Export failed: " + e.getCause().getMessage());
+            onFailure.accept(e.getCause() instanceof Exception cause ? cause : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the background export has stopped, including after a cancel.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return {@code true} if the export stopped within the timeout
+     * @throws InterruptedException if the wait is interrupted
+     */
+    boolean awaitFinished(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /**
+     * Iterates the rows, publishing progress and stopping once the worker is canceled.
+     * Cancellation is checked on the first row and at every progress update.
+     *
+     * @return an iterator over the rows
+     * @throws CancellationException from the iterator once the worker is canceled
+     */
+    private Iterator<T> progressRows() {
+        Iterator<? extends T> source = rows.iterator();
+        int total = rows.size();
+        return new Iterator<>() {
+            private long count;
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public T next() {
+                boolean update = ++count % PROGRESS_INTERVAL == 0;
+                if ((update || count == 1) && isCancelled()) throw new CancellationException("Export canceled");
+                if (update) {
+                    publish(count);
+                    setProgress((int) (count * 100 / total));
+                }
+                return source.next();
+            }
+        };
+    }
+
+    /**
+     * Renames the finished temporary file onto the target, atomically where supported.
+     *
+     * @param temp   the temporary file
+     * @param target the target file
+     * @throws IOException if the file cannot be renamed
+     */
+    private static void moveOnto(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
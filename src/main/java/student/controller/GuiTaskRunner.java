@@ -0,0 +1,195 @@
+package student.controller;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs service queries for the GUI on a worker executor and applies their results
+ * on the UI executor (normally the Swing event dispatch thread).
+ * <p>
+ * Each submitted query supersedes the previous one: an unfinished earlier query is
+ * canceled and its result is discarded, so fast successive actions (such as
+ * repeated searches) only ever show the latest result. A busy listener is told
+ * when the first query starts and when the last pending one has finished.
+ * </p>
+ *
+ * <p>Commands that change data, such as bookings, go through
+ * {@link #execute(Supplier, Consumer, Consumer)} instead: they are never canceled
+ * or superseded, so their outcome is always reported.</p>
+ *
+ * <p>{@link #submit(Supplier, Consumer, Consumer)} and {@link #execute(Supplier, Consumer, Consumer)}
+ * must be called on the UI thread.</p>
+ */
+public class GuiTaskRunner {
+
+    /**
+     * Number of worker threads used by {@link #background()}.
+     */
+    private static final int WORKER_THREADS = 2;
+
+    private final Executor worker;
+    private final Executor ui;
+    private Consumer<Boolean> busyListener = busy -> { };
+
+    /**
+     * Sequence number of the latest submitted query; older results are discarded.
+     * Accessed on the UI thread only.
+     */
+    private long generation;
+
+    /**
+     * Number of submitted queries whose completion has not been handled yet.
+     * Accessed on the UI thread only.
+     */
+    private int pending;
+
+    /**
+     * The latest submitted query, canceled when a newer one is submitted.
+     */
+    private FutureTask<?> current;
+
+    /**
+     * Constructs a runner with the given executors.
+     *
+     * @param worker runs the queries
+     * @param ui     applies results and reports busy changes
+     */
+    public GuiTaskRunner(Executor worker, Executor ui) {
+        this.worker = worker;
+        this.ui = ui;
+    }
+
+    /**
+     * Returns a runner that runs queries and applies results immediately on the calling thread.
+     *
+     * @return a synchronous runner
+     */
+    public static GuiTaskRunner direct() {
+        return new GuiTaskRunner(Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Returns a runner backed by a small pool of daemon worker threads that applies
+     * results on the Swing event dispatch thread.
+     *
+     * @return a background runner
+     */
+    public static GuiTaskRunner background() {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(WORKER_THREADS, task -> {
+            Thread thread = new Thread(task, "gui-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new GuiTaskRunner(pool, SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Sets the listener told when the runner becomes busy or idle.
+     *
+     * @param busyListener receives {@code true} when a query starts while idle and
+     *                     {@code false} when no queries are pending any more
+     */
+    public void setBusyListener(Consumer<Boolean> busyListener) {
+        this.busyListener = busyListener;
+    }
+
+    /**
+     * Runs a query in the background and applies its result on the UI thread,
+     * superseding any query still running.
+     *
+     * @param query    the service query
+     * @param onResult applies the result, unless a newer query has been submitted
+     * @param onError  receives the failure, unless a newer query has been submitted
+     * @param <T>      the result type
+     */
+    public <T> void submit(Supplier<T> query, Consumer<? super T> onResult, Consumer<Exception> onError) {
+        long id = ++generation;
+        if (current != null) current.cancel(true);
+        if (pending++ == 0) busyListener.accept(true);
+
+        FutureTask<T> task = new FutureTask<>(query::get) {
+            @Override
+            protected void done() {
+                ui.execute(() -> finish(id, this, onResult, onError));
+            }
+        };
+        current = task;
+        worker.execute(task);
+    }
+
+    /**
+     * Runs a command in the background and applies its outcome on the UI thread.
+     * Unlike {@link #submit(Supplier, Consumer, Consumer)}, the command neither supersedes
+     * running queries nor is superseded by later ones, so it always runs to completion.
+     *
+     * @param command  the service command
+     * @param onResult applies the result
+     * @param onError  receives the failure
+     * @param <T>      the result type
+     */
+    public <T> void execute(Supplier<T> command, Consumer<? super T> onResult, Consumer<Exception> onError) {
+        if (pending++ == 0) busyListener.accept(true);
+
+        FutureTask<T> task = new FutureTask<>(command::get) {
+            @Override
+            protected void done() {
+                ui.execute(() -> {
+                    if (--pending == 0) busyListener.accept(false);
+                    apply(this, onResult, onError);
+                });
+            }
+        };
+        worker.execute(task);
+    }
+
+    /**
+     * Returns whether any submitted query has not finished yet.
+     *
+     * @return {@code true} if the runner is busy
+     */
+    public boolean isBusy() {
+        return pending > 0;
+    }
+
+    /**
+     * Handles a finished query on the UI thread.
+     *
+     * @param id       the sequence number of the query
+     * @param task     the finished task
+     * @param onResult applies the result
+     * @param onError  receives the failure
+     * @param <T>      the result type
+     */
+    private <T> void finish(long id, FutureTask<T> task, Consumer<? super T> onResult, Consumer<Exception> onError) {
+        if (--pending == 0) busyListener.accept(false);
+        if (id != generation || task.isCancelled()) return;
+        if (current == task) current = null;
+        apply(task, onResult, onError);
+    }
+
+    /**
+     * Passes the result or failure of a finished task on. Must be called on the UI thread.
+     *
+     * @param task     the finished task
+     * @param onResult applies the result
+     * @param onError  receives the failure
+     * @param <T>      the result type
+     */
+    private static <T> void apply(FutureTask<T> task, Consumer<? super T> onResult, Consumer<Exception> onError) {
+        try {
+            onResult.accept(task.get());
+        } catch (ExecutionException e) {
+            onError.accept(e.getCause() instanceof Exception cause ? cause : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -10,6 +10,11 @@ import java.util.UUID;
 /**
  * Represents a car booking made by a user.
  * Contains booking details such as user, car, time, and cancellation status.
+ * <p>
+ * A booking reserves its car for the half-open period from its pickup time
+ * (inclusive) to its return time (exclusive). A booking without a return time
+ * is open-ended and holds the car until it is canceled.
+ * </p>
  */
 public class CarBooking {
 
@@ -33,13 +38,23 @@ public class CarBooking {
      */
     private LocalDateTime bookingTime;
 
+    /**
+     * The time the car is picked up, from which it is reserved.
+     */
+    private LocalDateTime pickupTime;
+
+    /**
+     * The time the car is returned, or {@code null} for an open-ended booking.
+     */
+    private LocalDateTime returnTime;
+
     /**
      * Indicates whether the booking has been canceled.
      */
     private boolean isCanceled;
 
     /**
-     * Creates a new car booking.
+     * Creates a new open-ended car booking that starts at the time of booking.
      *
      * @param bookingId    Unique ID of the booking
      * @param user         The user who made the booking
@@ -47,10 +62,31 @@ public class CarBooking {
      * @param bookingTime  Time of booking
      */
     public CarBooking(UUID bookingId, User user, Car car, LocalDateTime bookingTime) {
+        this(bookingId, user, car, bookingTime, bookingTime, null);
+    }
+
+    /**
+     * Creates a new car booking for the period between pickup and return.
+     *
+     * @param bookingId    Unique ID of the booking
+     * @param user         The user who made the booking
+     * @param car          The car being booked
+     * @param bookingTime  Time of booking
+     * @param pickupTime   Time the car is picked up
+     * @param returnTime   Time the car is returned, or {@code null} for an open-ended booking
+     * @throws IllegalArgumentException if the return time is not after the pickup time
+     */
+    public CarBooking(UUID bookingId, User user, Car car, LocalDateTime bookingTime,
+                      LocalDateTime pickupTime, LocalDateTime returnTime) {
+        if (returnTime != null && !returnTime.isAfter(pickupTime)) {
+            throw new IllegalArgumentException("Return time must be after pickup time.");
+        }
         this.bookingId = bookingId;
         this.user = user;
         this.car = car;
         this.bookingTime = bookingTime;
+        this.pickupTime = pickupTime;
+        this.returnTime = returnTime;
         this.isCanceled = false;
     }
 
@@ -74,6 +110,28 @@ public class CarBooking {
         return bookingTime;
     }
 
+    /** @return The time the car is picked up */
+    public LocalDateTime getPickupTime() {
+        return pickupTime;
+    }
+
+    /** @return The time the car is returned, or {@code null} if the booking is open-ended */
+    public LocalDateTime getReturnTime() {
+        return returnTime;
+    }
+
+    /**
+     * Checks whether this booking's period overlaps the given period.
+     * Cancellation is not taken into account.
+     *
+     * @param from Start of the period (inclusive)
+     * @param to   End of the period (exclusive), or {@code null} for an open-ended period
+     * @return {@code true} if the periods overlap
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return (to == null || pickupTime.isBefore(to)) && (returnTime == null || from.isBefore(returnTime));
+    }
+
     /** @return Whether the booking has been canceled */
     public boolean isCanceled() {
         return isCanceled;
@@ -99,12 +157,14 @@ public class CarBooking {
                 ", user=" + user +
                 ", car=" + car +
                 ", bookingTime=" + bookingTime +
+                ", pickupTime=" + pickupTime +
+                ", returnTime=" + returnTime +
                 ", isCanceled=" + isCanceled +
                 '}';
     }
 
     /**
-     * Checks if two bookings are equal based on ID, user, car, time, and cancellation status.
+     * Checks if two bookings are equal based on ID, user, car, times, and cancellation status.
      *
      * @param o The object to compare with.
      * @return {@code true} if equal, {@code false} otherwise.
@@ -117,16 +177,18 @@ public class CarBooking {
                 Objects.equals(bookingId, that.bookingId) &&
                 Objects.equals(user, that.user) &&
                 Objects.equals(car, that.car) &&
-                Objects.equals(bookingTime, that.bookingTime);
+                Objects.equals(bookingTime, that.bookingTime) &&
+                Objects.equals(pickupTime, that.pickupTime) &&
+                Objects.equals(returnTime, that.returnTime);
     }
 
     /**
-     * Computes a hash code based on booking ID, user, car, time, and status.
+     * Computes a hash code based on booking ID, user, car, times, and status.
      *
      * @return The hash code.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(bookingId, user, car, bookingTime, isCanceled);
+        return Objects.hash(bookingId, user, car, bookingTime, pickupTime, returnTime, isCanceled);
     }
 }
\ No newline at end of file
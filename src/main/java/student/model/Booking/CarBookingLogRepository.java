@@ -0,0 +1,656 @@
+package student.model.Booking;
+
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.User.User;
+import student.model.utils.Money;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Durable {@link CarBookingRepository} that records every booking and cancellation
+ * in an append-only binary log before acknowledging it.
+ * <p>
+ * Each event is written as a frame of {@code [length][crc32][payload]} to
+ * {@code bookings.log} in the given directory. Writers use group commit: events
+ * are queued in memory, and whichever caller flushes first writes all queued
+ * frames and issues a single {@code fsync} for the whole batch, so concurrent
+ * bookings share the cost of one disk sync.
+ * </p>
+ *
+ * <p>Every {@code snapshotInterval} events, the current bookings are written to
+ * {@code bookings.snapshot} (via a temporary file and an atomic rename) and the
+ * log is truncated, which caps the amount of log replayed on startup. On
+ * construction, the snapshot and then the log are replayed into the in-memory
+ * state; replay is idempotent by booking ID, and a torn frame at the end of the
+ * log (e.g., after a crash) is discarded.</p>
+ *
+ * <p>If writing or syncing the log fails, every change that was not yet durable is
+ * rolled back in memory, in reverse order, its callers get an exception, and the
+ * log refuses further changes until it is {@linkplain #clear() cleared}.</p>
+ *
+ * <p><strong>Note:</strong> The in-memory state is the shared static state of
+ * {@link CarBookingRepository}, so only one instance can be open per process, and
+ * while it is open the state can only be cleared through it.
+ * Changes made directly through {@link #getCarBookings()} are not logged.</p>
+ */
+public class CarBookingLogRepository extends CarBookingRepository implements AutoCloseable {
+
+    /**
+     * Default number of logged events between snapshots.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10_000;
+
+    /**
+     * Name of the write-ahead log file.
+     */
+    static final String LOG_FILE = "bookings.log";
+
+    /**
+     * Name of the snapshot file.
+     */
+    static final String SNAPSHOT_FILE = "bookings.snapshot";
+
+    /**
+     * Event type of a booking record without pickup and return times, as written by earlier versions.
+     */
+    private static final byte BOOK = 1;
+
+    /**
+     * Event type of a cancellation record.
+     */
+    private static final byte CANCEL = 2;
+
+    /**
+     * Event type of a booking record with pickup and return times. Plain {@link #BOOK}
+     * records are still replayed, as open-ended bookings starting at their booking time.
+     */
+    private static final byte BOOK_PERIOD = 3;
+
+    /**
+     * Size of the length and checksum fields in front of each payload.
+     */
+    private static final int FRAME_HEADER = 8;
+
+    private final Path logPath;
+    private final Path snapshotPath;
+    private final int snapshotInterval;
+    private final FileChannel log;
+
+    /**
+     * Guards the in-memory state and the queue of frames not yet written.
+     */
+    private final Object appendLock = new Object();
+
+    /**
+     * Serializes writes, syncs and snapshots of the files.
+     */
+    private final Object flushLock = new Object();
+
+    /**
+     * Records appended to the in-memory state but not yet written to the log.
+     */
+    private List<PendingRecord> pending = new ArrayList<>();
+
+    /**
+     * Sequence number of the last queued frame.
+     */
+    private long appendedSeq;
+
+    /**
+     * Sequence number of the last frame known to be on disk.
+     */
+    private volatile long durableSeq;
+
+    /**
+     * Number of frames written to the log since the last snapshot.
+     */
+    private long framesSinceSnapshot;
+
+    /**
+     * The failure that made the log refuse further changes, or {@code null} while it is healthy.
+     */
+    private volatile IllegalStateException failure;
+
+    /**
+     * A framed record waiting for the next group commit, with the change it undoes in memory.
+     */
+    private static final class PendingRecord {
+        private final byte[] frame;
+        private final Runnable undo;
+
+        PendingRecord(byte[] frame, Runnable undo) {
+            this.frame = frame;
+            this.undo = undo;
+        }
+    }
+
+    /**
+     * Opens the booking log in the given directory with the default snapshot interval.
+     *
+     * @param directory directory holding the log and snapshot files
+     * @throws IllegalStateException if the files cannot be read or opened
+     */
+    public CarBookingLogRepository(String directory) {
+        this(Path.of(directory), DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens the booking log in the given directory, replaying any existing snapshot and log.
+     *
+     * @param directory        directory holding the log and snapshot files
+     * @param snapshotInterval number of logged events between snapshots
+     * @throws IllegalStateException if the files cannot be read or opened, or another booking log is open
+     */
+    public CarBookingLogRepository(Path directory, int snapshotInterval) {
+        if (openLog != null) throw new IllegalStateException("❌ Another booking log is already open");
+        this.logPath = directory.resolve(LOG_FILE);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.snapshotInterval = snapshotInterval;
+
+        try {
+            Files.createDirectories(directory);
+            Map<UUID, CarBooking> replayed = new LinkedHashMap<>();
+            replay(snapshotPath, replayed);
+            long validLength = replay(logPath, replayed);
+
+            this.log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (log.size() > validLength) {
+                log.truncate(validLength);
+                log.force(true);
+            }
+            log.position(validLength);
+
+            restore(replayed.values());
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Failed to open booking log in " + directory, e);
+        }
+        synchronized (CarBookingLogRepository.class) {
+            if (openLog != null) {
+                closeQuietly();
+                throw new IllegalStateException("❌ Another booking log is already open");
+            }
+            openLog = this;
+        }
+    }
+
+    /**
+     * Adds a booking and returns once its log record is durable.
+     *
+     * @param carBooking the booking to be stored
+     * @throws IllegalStateException if the log cannot be written; the booking is then not stored
+     */
+    @Override
+    public void book(CarBooking carBooking) {
+        awaitDurable(append(carBooking));
+    }
+
+    /**
+     * Adds a booking in memory and queues its log record without waiting for it to be durable.
+     *
+     * @param carBooking the booking to be stored
+     * @return the sequence number of the queued record
+     * @throws IllegalStateException if the log refuses changes after a failed write
+     */
+    long append(CarBooking carBooking) {
+        byte[] frame = frame(encodeBooking(carBooking));
+        synchronized (appendLock) {
+            checkWritable();
+            super.book(carBooking);
+            return enqueue(frame, () -> unbook(carBooking));
+        }
+    }
+
+    /**
+     * Adds several bookings and returns once all their log records are durable.
+     * The records are queued together, so the whole group shares one group commit.
+     *
+     * @param bookings the bookings to be stored
+     * @throws IllegalStateException if the log cannot be written; none of the bookings are then stored
+     */
+    @Override
+    public void bookAll(Collection<CarBooking> bookings) {
+        List<byte[]> frames = new ArrayList<>(bookings.size());
+        for (CarBooking booking : bookings) frames.add(frame(encodeBooking(booking)));
+        long seq = 0;
+        synchronized (appendLock) {
+            checkWritable();
+            super.bookAll(bookings);
+            int i = 0;
+            for (CarBooking booking : bookings) seq = enqueue(frames.get(i++), () -> unbook(booking));
+        }
+        awaitDurable(seq);
+    }
+
+    /**
+     * Cancels a booking and returns once its log record is durable.
+     *
+     * @param bookingId the unique identifier of the booking to cancel
+     * @throws IllegalStateException if no booking with the given ID is found or the log cannot be written;
+     *                               in the latter case the booking stays active
+     */
+    @Override
+    public void cancelCarBooking(UUID bookingId) {
+        byte[] frame = frame(encodeCancel(bookingId));
+        long seq;
+        synchronized (appendLock) {
+            checkWritable();
+            CarBooking booking = findById(bookingId);
+            boolean wasActive = booking != null && !booking.isCanceled();
+            super.cancelCarBooking(bookingId);
+            seq = enqueue(frame, wasActive ? () -> uncancel(booking) : () -> { });
+        }
+        awaitDurable(seq);
+    }
+
+    /**
+     * Removes all bookings and deletes the persisted log and snapshot contents.
+     * A log that refused changes after a failed write accepts them again once cleared.
+     *
+     * @throws IllegalStateException if the files cannot be reset
+     */
+    @Override
+    public void clear() {
+        synchronized (flushLock) {
+            synchronized (appendLock) {
+                super.clear();
+                pending = new ArrayList<>();
+                durableSeq = appendedSeq;
+                try {
+                    Files.deleteIfExists(snapshotPath);
+                    log.truncate(0);
+                    log.force(true);
+                    framesSinceSnapshot = 0;
+                    failure = null;
+                } catch (IOException e) {
+                    throw new IllegalStateException("❌ Failed to reset booking log", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of all current bookings and truncates the log.
+     *
+     * @throws IllegalStateException if the snapshot cannot be written
+     */
+    public void snapshot() {
+        synchronized (flushLock) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * Flushes queued records and closes the log file, so another log can be opened.
+     *
+     * @throws IllegalStateException if the log cannot be written or closed
+     */
+    @Override
+    public void close() {
+        synchronized (flushLock) {
+            try {
+                flushPending();
+            } finally {
+                closeQuietly();
+            }
+            if (log.isOpen()) throw new IllegalStateException("❌ Failed to close booking log");
+        }
+    }
+
+    /**
+     * Closes the log file, ignoring errors, and releases the shared state.
+     */
+    private void closeQuietly() {
+        try {
+            log.close();
+        } catch (IOException ignored) {
+            // The log is reported as still open by close().
+        }
+        synchronized (CarBookingLogRepository.class) {
+            if (openLog == this) openLog = null;
+        }
+    }
+
+    /**
+     * Throws if an earlier write failed. Must be called while holding {@link #appendLock}.
+     *
+     * @throws IllegalStateException if the log refuses changes
+     */
+    private void checkWritable() {
+        if (failure != null) {
+            throw new IllegalStateException("❌ Booking log is unavailable after a failed write", failure);
+        }
+    }
+
+    /**
+     * Queues a frame for the next group commit. Must be called while holding {@link #appendLock}.
+     *
+     * @param frame the framed record
+     * @param undo  reverts the in-memory change if the frame cannot be written
+     * @return the sequence number of the frame
+     */
+    private long enqueue(byte[] frame, Runnable undo) {
+        pending.add(new PendingRecord(frame, undo));
+        return ++appendedSeq;
+    }
+
+    /**
+     * Blocks until the frame with the given sequence number is on disk. If no other
+     * caller is flushing, this caller writes and syncs every queued frame at once.
+     * A failed snapshot does not fail the caller, whose record is already durable;
+     * it is retried after the next flush.
+     *
+     * @param seq the sequence number to wait for
+     * @throws IllegalStateException if the frame could not be written
+     */
+    private void awaitDurable(long seq) {
+        if (durableSeq >= seq) return;
+        synchronized (flushLock) {
+            if (durableSeq < seq) flushPending();
+            if (durableSeq < seq) {
+                throw new IllegalStateException("❌ Booking log is unavailable after a failed write", failure);
+            }
+            if (framesSinceSnapshot >= snapshotInterval) {
+                try {
+                    writeSnapshot();
+                } catch (IllegalStateException e) {
+                    System.err.println("⚠️ Booking snapshot failed and will be retried: " + e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all queued frames and syncs the log. Must be called while holding {@link #flushLock}.
+     * If that fails, the log is cut back to its previous end, every change not yet durable
+     * is undone in memory and the log refuses further changes.
+     *
+     * @throws IllegalStateException if the log cannot be written
+     */
+    private void flushPending() {
+        List<PendingRecord> batch;
+        long upTo;
+        synchronized (appendLock) {
+            if (pending.isEmpty()) return;
+            batch = pending;
+            upTo = appendedSeq;
+            pending = new ArrayList<>();
+        }
+
+        int size = 0;
+        for (PendingRecord record : batch) size += record.frame.length;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (PendingRecord record : batch) buffer.put(record.frame);
+        buffer.flip();
+
+        long start = -1;
+        try {
+            start = log.position();
+            while (buffer.hasRemaining()) log.write(buffer);
+            log.force(false);
+        } catch (IOException e) {
+            fail(batch, start, new IllegalStateException("❌ Failed to write booking log", e));
+        }
+        framesSinceSnapshot += batch.size();
+        durableSeq = upTo;
+    }
+
+    /**
+     * Undoes a failed batch and every change queued after it, newest first, and
+     * makes the log refuse further changes. Must be called while holding {@link #flushLock}.
+     *
+     * @param batch the records that could not be written
+     * @param start the log position the batch was written at, or {@code -1} if unknown
+     * @param error the failure to report
+     * @throws IllegalStateException always, the given error
+     */
+    private void fail(List<PendingRecord> batch, long start, IllegalStateException error) {
+        if (start >= 0) {
+            try {
+                log.truncate(start);
+                log.position(start);
+            } catch (IOException e) {
+                error.addSuppressed(e);
+            }
+        }
+        synchronized (appendLock) {
+            failure = error;
+            for (int i = pending.size() - 1; i >= 0; i--) pending.get(i).undo.run();
+            for (int i = batch.size() - 1; i >= 0; i--) batch.get(i).undo.run();
+            pending = new ArrayList<>();
+        }
+        throw error;
+    }
+
+    /**
+     * Flushes all queued frames and writes all bookings to the snapshot file, then truncates the log.
+     * Must be called while holding {@link #flushLock}. The flush and the copy of the bookings
+     * both run under {@link #appendLock}, so the snapshot only contains durable changes and
+     * never a change that a failed flush later undoes. Frames queued after the copy are
+     * written to the truncated log by the next flush.
+     *
+     * @throws IllegalStateException if the pending frames or the snapshot cannot be written
+     */
+    private void writeSnapshot() {
+        Path temp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try {
+            synchronized (appendLock) {
+                flushPending();
+                try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+                    for (CarBooking booking : getCarBookings()) {
+                        bytes.write(frame(encodeBooking(booking)));
+                        if (booking.isCanceled()) bytes.write(frame(encodeCancel(booking.getBookingId())));
+                        if (bytes.size() >= 1 << 16) {
+                            writeFully(out, bytes.toByteArray());
+                            bytes.reset();
+                        }
+                    }
+                    writeFully(out, bytes.toByteArray());
+                    out.force(true);
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.truncate(0);
+            log.force(true);
+            framesSinceSnapshot = 0;
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Failed to write booking snapshot", e);
+        }
+    }
+
+    /**
+     * Restores replayed bookings into the in-memory state, skipping IDs already present.
+     *
+     * @param bookings the replayed bookings in log order
+     */
+    private void restore(Iterable<CarBooking> bookings) {
+        for (CarBooking booking : bookings) {
+            CarBooking current = findById(booking.getBookingId());
+            if (current == null) {
+                super.book(booking);
+            } else if (booking.isCanceled() && !current.isCanceled()) {
+                super.cancelCarBooking(booking.getBookingId());
+            }
+        }
+    }
+
+    /**
+     * Replays all valid frames of a file into the given map.
+     *
+     * @param file     the log or snapshot file
+     * @param bookings replayed bookings by ID, in first-seen order
+     * @return the length of the valid prefix of the file
+     * @throws IOException if the file cannot be read
+     */
+    private static long replay(Path file, Map<UUID, CarBooking> bookings) throws IOException {
+        if (!Files.exists(file)) return 0;
+
+        long valid = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                byte[] payload = readFrame(in);
+                if (payload == null) break;
+                apply(payload, bookings);
+                valid += FRAME_HEADER + payload.length;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Reads one frame, verifying its checksum.
+     *
+     * @param in the input
+     * @return the payload, or {@code null} at the end of the file or at a torn or corrupt frame
+     * @throws IOException if the file cannot be read
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int crc = in.readInt();
+            if (length <= 0 || length > 1 << 20) return null;
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            return checksum(payload) == crc ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Applies one decoded record to the replayed bookings.
+     *
+     * @param payload  the record payload
+     * @param bookings replayed bookings by ID
+     * @throws IOException if the payload is malformed
+     */
+    private static void apply(byte[] payload, Map<UUID, CarBooking> bookings) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        UUID bookingId = new UUID(in.readLong(), in.readLong());
+        if (type == CANCEL) {
+            CarBooking booking = bookings.get(bookingId);
+            if (booking != null) booking.setCanceled(true);
+            return;
+        }
+
+        User user = new User(new UUID(in.readLong(), in.readLong()), in.readUTF());
+        String regNumber = in.readUTF();
+        BigDecimal price = new BigDecimal(in.readUTF());
+        Brand brand = Brand.values()[in.readByte()];
+        boolean isElectric = in.readBoolean();
+        String model = in.readUTF();
+        Car car = new Car(regNumber, price, brand, isElectric, model);
+        LocalDateTime time = readTime(in);
+
+        CarBooking booking = type == BOOK_PERIOD
+                ? new CarBooking(bookingId, user, car, time, readTime(in), in.readBoolean() ? readTime(in) : null)
+                : new CarBooking(bookingId, user, car, time);
+        bookings.putIfAbsent(bookingId, booking);
+    }
+
+    /**
+     * Encodes a booking record.
+     *
+     * @param booking the booking
+     * @return the record payload
+     */
+    private static byte[] encodeBooking(CarBooking booking) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(BOOK_PERIOD);
+            writeUuid(out, booking.getBookingId());
+            writeUuid(out, booking.getUser().getId());
+            out.writeUTF(booking.getUser().getName());
+            Car car = booking.getCar();
+            out.writeUTF(car.getRegNumber());
+            Money price = car.getRentalPrice();
+            // A plain decimal parses back to the same scale unless the scale is negative.
+            out.writeUTF(price.getScale() >= 0 ? price.toString() : price.toBigDecimal().toString());
+            out.writeByte(car.getBrand().ordinal());
+            out.writeBoolean(car.isElectric());
+            out.writeUTF(car.getModel());
+            writeTime(out, booking.getBookingTime());
+            writeTime(out, booking.getPickupTime());
+            out.writeBoolean(booking.getReturnTime() != null);
+            if (booking.getReturnTime() != null) writeTime(out, booking.getReturnTime());
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Failed to encode booking", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes a cancellation record.
+     *
+     * @param bookingId the canceled booking ID
+     * @return the record payload
+     */
+    private static byte[] encodeCancel(UUID bookingId) {
+        ByteBuffer buffer = ByteBuffer.allocate(17);
+        buffer.put(CANCEL).putLong(bookingId.getMostSignificantBits()).putLong(bookingId.getLeastSignificantBits());
+        return buffer.array();
+    }
+
+    /**
+     * Wraps a payload in a length and checksum header.
+     *
+     * @param payload the record payload
+     * @return the framed record
+     */
+    private static byte[] frame(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(FRAME_HEADER + payload.length);
+        buffer.putInt(payload.length).putInt(checksum(payload)).put(payload);
+        return buffer.array();
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(time.toLocalDate().toEpochDay());
+        out.writeLong(time.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+}
@@ -1,17 +1,36 @@
 package student.model.Booking;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Repository class for managing {@link CarBooking} records in memory.
  * <p>
  * This class provides methods to add new bookings and mark existing
  * bookings as canceled. All bookings are stored in a static list,
- * which serves as an in-memory storage.
+ * which serves as an in-memory storage. Alongside the list, a schedule of
+ * active (non-canceled) bookings is kept per car registration number, so
+ * checking whether a car is free during a period costs {@code O(log n)} in
+ * the number of that car's bookings instead of a scan over the whole history.
+ * A second index maps user IDs to their active bookings, so a user's bookings
+ * are found in time proportional to their own bookings, and a map keyed by
+ * booking ID makes lookup and cancellation by ID constant-time.
  * </p>
  *
+ * <p>Writes are thread-safe. {@link #tryBook(CarBooking)} is atomic per car:
+ * it holds one of a fixed set of lock stripes chosen by registration number
+ * while checking and booking, so bookings of different cars proceed in parallel
+ * and only contend briefly on the shared list. Iterating the list returned by
+ * {@link #getCarBookings()} while other threads book is not safe.</p>
+ *
  * <p><strong>Note:</strong> Since a static list is used, this data
  * is shared across the entire application lifetime and will be lost
  * once the application stops.</p>
@@ -22,7 +41,65 @@ public class CarBookingRepository {
      * Static list to store all {@link CarBooking} records.
      * Acts as an in-memory database for car bookings.
      */
-    private static final List<CarBooking> carBookings = new ArrayList<>();
+    private static final BookingList carBookings = new BookingList();
+
+    /**
+     * Static map of all bookings, including canceled ones, keyed by booking ID.
+     */
+    private static final Map<UUID, CarBooking> bookingsById = new ConcurrentHashMap<>();
+
+    /**
+     * Static schedules of active (non-canceled) bookings keyed by car registration number.
+     * Updated by {@link #book(CarBooking)} and {@link #cancelCarBooking(UUID)}.
+     */
+    private static final Map<String, CarSchedule> schedulesByRegNumber = new ConcurrentHashMap<>();
+
+    /**
+     * Static index of active (non-canceled) bookings keyed by user ID, each map keyed by
+     * booking ID in booking order. Keyed by ID because a booking's hash code changes when
+     * it is canceled. Updated by {@link #book(CarBooking)} and {@link #cancelCarBooking(UUID)}.
+     */
+    private static final Map<UUID, Map<UUID, CarBooking>> activeBookingsByUserId = new ConcurrentHashMap<>();
+
+    /**
+     * Modification count of {@link #carBookings} the schedules were last synchronized with.
+     * A mismatch means the list was changed through {@link #getCarBookings()}.
+     */
+    private static volatile int indexedModCount = 0;
+
+    /**
+     * The durable log that currently owns the shared state, or {@code null} if none is open.
+     * While a log is open, the state may only be cleared through it, so memory and log stay in step.
+     */
+    static volatile CarBookingRepository openLog;
+
+    /**
+     * Number of lock stripes used by {@link #tryBook(CarBooking)}; a power of two.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Locks serializing check-then-book per registration number.
+     */
+    private static final Object[] bookingLocks = new Object[LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            bookingLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Booking list that exposes its structural modification count, so the
+     * repository can detect changes made through {@link #getCarBookings()}.
+     */
+    private static final class BookingList extends ArrayList<CarBooking> {
+        private static final long serialVersionUID = 1L;
+
+        int modificationCount() {
+            return modCount;
+        }
+    }
 
     /**
      * Retrieves all existing {@link CarBooking} records.
@@ -33,29 +110,381 @@ public class CarBookingRepository {
         return carBookings;
     }
 
+    /**
+     * Returns a copy of all {@link CarBooking} records, taken while no other thread adds or removes one.
+     * Unlike {@link #getCarBookings()}, the copy is safe to read while other threads book.
+     *
+     * @return an unmodifiable snapshot of all current car bookings
+     */
+    public List<CarBooking> snapshotCarBookings() {
+        synchronized (carBookings) {
+            return List.copyOf(carBookings);
+        }
+    }
+
     /**
      * Adds a new {@link CarBooking} record to the repository.
      *
      * @param carBooking the booking to be stored
+     * @throws IllegalStateException if an active booking overlaps an active booking of the same car;
+     *                               nothing is stored then
      */
     public void book(CarBooking carBooking) {
-        carBookings.add(carBooking);
+        synchronized (carBookings) {
+            syncIndex();
+            if (!carBooking.isCanceled()) indexActive(carBooking);
+            carBookings.add(carBooking);
+            indexedModCount = carBookings.modificationCount();
+            bookingsById.put(carBooking.getBookingId(), carBooking);
+        }
+    }
+
+    /**
+     * Adds several {@link CarBooking} records to the repository in one operation.
+     *
+     * @param bookings the bookings to be stored
+     * @throws IllegalStateException if an active booking overlaps another active booking of the same car;
+     *                               nothing is stored then
+     */
+    public void bookAll(Collection<CarBooking> bookings) {
+        synchronized (carBookings) {
+            syncIndex();
+            List<CarBooking> indexed = new ArrayList<>(bookings.size());
+            try {
+                for (CarBooking booking : bookings) {
+                    if (booking.isCanceled()) continue;
+                    indexActive(booking);
+                    indexed.add(booking);
+                }
+            } catch (IllegalStateException e) {
+                for (CarBooking booking : indexed) unindexActive(booking);
+                throw e;
+            }
+            carBookings.addAll(bookings);
+            indexedModCount = carBookings.modificationCount();
+            for (CarBooking booking : bookings) bookingsById.put(booking.getBookingId(), booking);
+        }
+    }
+
+    /**
+     * Atomically books a group of cars.
+     * <p>
+     * The lock stripes of all cars in the group are taken together, in stripe order
+     * so that concurrent groups cannot deadlock. While they are held, every booking
+     * is checked against the stored bookings and against the bookings accepted
+     * earlier in the same group, and the accepted bookings are then stored with a
+     * single {@link #bookAll(Collection)} call.
+     * </p>
+     *
+     * @param bookings     the bookings to be stored
+     * @param allOrNothing if {@code true}, nothing is stored unless every booking is available;
+     *                     if {@code false}, the available bookings are stored and the rest skipped
+     * @return the bookings that were stored, in the given order
+     */
+    public List<CarBooking> tryBookAll(List<CarBooking> bookings, boolean allOrNothing) {
+        TreeSet<Integer> stripes = new TreeSet<>();
+        for (CarBooking booking : bookings) stripes.add(stripeOf(booking.getCar().getRegNumber()));
+        int[] order = stripes.stream().mapToInt(Integer::intValue).toArray();
+        return withStripes(order, 0, bookings, allOrNothing);
+    }
+
+    /**
+     * Atomically books the car of the given booking if no active booking of that car
+     * overlaps the booking's pickup-to-return period.
+     * <p>
+     * The availability check and the {@link #book(CarBooking)} call run under the
+     * lock stripe of the car's registration number, so two threads can never both
+     * book the same car for overlapping periods, while bookings of cars on other
+     * stripes do not wait.
+     * </p>
+     *
+     * @param carBooking the booking to be stored
+     * @return {@code true} if the booking was stored, {@code false} if the car is already booked
+     */
+    public boolean tryBook(CarBooking carBooking) {
+        String regNumber = carBooking.getCar().getRegNumber();
+        synchronized (lockFor(regNumber)) {
+            if (!isCarAvailable(regNumber, carBooking.getPickupTime(), carBooking.getReturnTime())) return false;
+            book(carBooking);
+            return true;
+        }
     }
 
     /**
      * Marks an existing booking as canceled, identified by its unique ID.
-     * If the booking cannot be found, throws an exception.
+     * The already-canceled check and the update happen under the repository lock,
+     * so of two concurrent cancellations of the same booking only one succeeds.
      *
      * @param bookingId the unique identifier of the booking to cancel
-     * @throws IllegalStateException if no booking with the given ID is found
+     * @throws IllegalStateException if no booking with the given ID is found or it is already canceled
      */
     public void cancelCarBooking(UUID bookingId) {
-        for (CarBooking booking : carBookings) {
-            if (booking.getBookingId().equals(bookingId)) {
+        synchronized (carBookings) {
+            CarBooking booking = findById(bookingId);
+            if (booking != null) {
+                if (booking.isCanceled()) throw new IllegalStateException("Booking already canceled.");
                 booking.setCanceled(true);
+                unindexActive(booking);
                 return;
             }
         }
         throw new IllegalStateException("Booking with ID " + bookingId + " not found.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds a booking, canceled or not, by its unique ID in constant time.
+     *
+     * @param bookingId the unique identifier of the booking
+     * @return the booking, or {@code null} if no booking has that ID
+     */
+    public CarBooking findById(UUID bookingId) {
+        syncIndex();
+        return bookingsById.get(bookingId);
+    }
+
+    /**
+     * Returns the active (non-canceled) bookings of a user, in booking order.
+     * <p>
+     * This reads the per-user index, so its cost is proportional to the user's
+     * own active bookings rather than to the whole booking history.
+     * </p>
+     *
+     * @param userId the unique ID of the user
+     * @return a new list of the user's active bookings; empty if there are none
+     */
+    public List<CarBooking> getActiveBookingsByUser(UUID userId) {
+        syncIndex();
+        Map<UUID, CarBooking> bookings = activeBookingsByUserId.get(userId);
+        if (bookings == null) return new ArrayList<>();
+
+        List<CarBooking> active = new ArrayList<>();
+        synchronized (bookings) {
+            for (CarBooking booking : bookings.values()) {
+                if (!booking.isCanceled()) active.add(booking);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Checks whether the car with the given registration number has an active
+     * (non-canceled) booking that has not yet ended, i.e. whether it cannot be
+     * booked open-ended from now on.
+     *
+     * @param regNumber the registration number of the car
+     * @return {@code true} if the car is currently booked, {@code false} otherwise
+     */
+    public boolean isCarBooked(String regNumber) {
+        return !isCarAvailable(regNumber, LocalDateTime.now(), null);
+    }
+
+    /**
+     * Checks whether the car with the given registration number has no active
+     * booking overlapping the given period.
+     * <p>
+     * This is a hash lookup of the car's schedule followed by one {@code O(log n)}
+     * search in it, so its cost does not grow with other cars' bookings or with
+     * the number of canceled bookings.
+     * </p>
+     *
+     * @param regNumber the registration number of the car
+     * @param from      start of the period (inclusive)
+     * @param to        end of the period (exclusive), or {@code null} for an open-ended period
+     * @return {@code true} if the car is free for the whole period, {@code false} otherwise
+     */
+    public boolean isCarAvailable(String regNumber, LocalDateTime from, LocalDateTime to) {
+        syncIndex();
+        CarSchedule schedule = schedulesByRegNumber.get(regNumber);
+        return schedule == null || schedule.isFree(from, to);
+    }
+
+    /**
+     * Removes all bookings and clears the per-car schedules.
+     * Mainly intended for benchmarks and tests that need a known starting state.
+     *
+     * @throws IllegalStateException if a {@link CarBookingLogRepository} is open and this is not it
+     */
+    public void clear() {
+        CarBookingRepository owner = openLog;
+        if (owner != null && owner != this) {
+            throw new IllegalStateException("❌ Cannot clear bookings while a booking log is open; clear the log instead");
+        }
+        synchronized (carBookings) {
+            carBookings.clear();
+            bookingsById.clear();
+            schedulesByRegNumber.clear();
+            activeBookingsByUserId.clear();
+            indexedModCount = carBookings.modificationCount();
+        }
+    }
+
+    /**
+     * Removes a stored booking again, e.g. when it could not be persisted.
+     *
+     * @param booking the booking to remove
+     */
+    void unbook(CarBooking booking) {
+        synchronized (carBookings) {
+            syncIndex();
+            for (int i = carBookings.size() - 1; i >= 0; i--) {
+                if (carBookings.get(i) == booking) {
+                    carBookings.remove(i);
+                    break;
+                }
+            }
+            indexedModCount = carBookings.modificationCount();
+            bookingsById.remove(booking.getBookingId(), booking);
+            if (!booking.isCanceled()) unindexActive(booking);
+        }
+    }
+
+    /**
+     * Reverts the cancellation of a booking, e.g. when it could not be persisted.
+     *
+     * @param booking the canceled booking
+     */
+    void uncancel(CarBooking booking) {
+        synchronized (carBookings) {
+            if (!booking.isCanceled()) return;
+            booking.setCanceled(false);
+            indexActive(booking);
+        }
+    }
+
+    /**
+     * Returns the lock stripe for a registration number.
+     *
+     * @param regNumber the registration number of the car
+     * @return the lock guarding bookings of that car
+     */
+    private static Object lockFor(String regNumber) {
+        return bookingLocks[stripeOf(regNumber)];
+    }
+
+    /**
+     * Returns the index of the lock stripe for a registration number.
+     *
+     * @param regNumber the registration number of the car
+     * @return the stripe index
+     */
+    private static int stripeOf(String regNumber) {
+        int hash = regNumber.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+    }
+
+    /**
+     * Takes the given lock stripes one after another, then checks and stores the group.
+     *
+     * @param stripes      the stripe indexes to lock, in ascending order
+     * @param next         index of the next stripe to lock
+     * @param bookings     the bookings to be stored
+     * @param allOrNothing whether a single unavailable booking rejects the whole group
+     * @return the bookings that were stored
+     */
+    private List<CarBooking> withStripes(int[] stripes, int next, List<CarBooking> bookings, boolean allOrNothing) {
+        if (next < stripes.length) {
+            synchronized (bookingLocks[stripes[next]]) {
+                return withStripes(stripes, next + 1, bookings, allOrNothing);
+            }
+        }
+
+        List<CarBooking> accepted = new ArrayList<>(bookings.size());
+        Map<String, List<CarBooking>> acceptedByRegNumber = new HashMap<>();
+        for (CarBooking booking : bookings) {
+            String regNumber = booking.getCar().getRegNumber();
+            List<CarBooking> sameCar = acceptedByRegNumber.computeIfAbsent(regNumber, key -> new ArrayList<>(1));
+            boolean available = isCarAvailable(regNumber, booking.getPickupTime(), booking.getReturnTime());
+            for (CarBooking other : sameCar) {
+                if (!available) break;
+                available = !other.overlaps(booking.getPickupTime(), booking.getReturnTime());
+            }
+            if (available) {
+                accepted.add(booking);
+                sameCar.add(booking);
+            } else if (allOrNothing) {
+                return List.of();
+            }
+        }
+        if (!accepted.isEmpty()) bookAll(accepted);
+        return accepted;
+    }
+
+    /**
+     * Adds an active booking to its car's schedule and its user's index.
+     * Must be called while holding {@link #carBookings}.
+     *
+     * @param booking the booking
+     * @throws IllegalStateException if the booking overlaps an active booking of the same car
+     */
+    private static void indexActive(CarBooking booking) {
+        schedulesByRegNumber.computeIfAbsent(booking.getCar().getRegNumber(), regNumber -> new CarSchedule())
+                .add(booking);
+        indexUser(booking);
+    }
+
+    /**
+     * Adds an active booking to its user's index. Must be called while holding {@link #carBookings}.
+     *
+     * @param booking the booking
+     */
+    private static void indexUser(CarBooking booking) {
+        Map<UUID, CarBooking> userBookings = activeBookingsByUserId.computeIfAbsent(booking.getUser().getId(),
+                userId -> new LinkedHashMap<>());
+        synchronized (userBookings) {
+            userBookings.put(booking.getBookingId(), booking);
+        }
+    }
+
+    /**
+     * Removes a booking from its car's schedule and its user's index, dropping
+     * either entry once it is empty. Must be called while holding {@link #carBookings}.
+     *
+     * @param booking the booking
+     */
+    private static void unindexActive(CarBooking booking) {
+        String regNumber = booking.getCar().getRegNumber();
+        CarSchedule schedule = schedulesByRegNumber.get(regNumber);
+        if (schedule != null) {
+            schedule.remove(booking);
+            if (schedule.isEmpty()) schedulesByRegNumber.remove(regNumber, schedule);
+        }
+
+        UUID userId = booking.getUser().getId();
+        Map<UUID, CarBooking> userBookings = activeBookingsByUserId.get(userId);
+        if (userBookings != null) {
+            synchronized (userBookings) {
+                userBookings.remove(booking.getBookingId(), booking);
+                if (userBookings.isEmpty()) activeBookingsByUserId.remove(userId, userBookings);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the ID map, the per-car schedules and the per-user index if the booking list was structurally
+     * modified outside this repository (e.g., cleared via {@link #getCarBookings()}).
+     * An active booking that overlaps an earlier active booking of the same car is indexed
+     * by ID and user but left out of the car's schedule, with a warning, so the rebuild
+     * always completes.
+     */
+    private static void syncIndex() {
+        if (indexedModCount == carBookings.modificationCount()) return;
+
+        synchronized (carBookings) {
+            if (indexedModCount == carBookings.modificationCount()) return;
+            bookingsById.clear();
+            schedulesByRegNumber.clear();
+            activeBookingsByUserId.clear();
+            for (CarBooking booking : carBookings) {
+                bookingsById.put(booking.getBookingId(), booking);
+                if (booking.isCanceled()) continue;
+                try {
+                    indexActive(booking);
+                } catch (IllegalStateException e) {
+                    System.err.println("⚠️ " + e.getMessage().replace("❌ ", "") + "; not added to its schedule");
+                    indexUser(booking);
+                }
+            }
+            indexedModCount = carBookings.modificationCount();
+        }
+    }
+}
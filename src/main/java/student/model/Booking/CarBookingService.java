@@ -3,12 +3,17 @@ package student.model.Booking;
 import student.model.Car.Car;
 import student.model.Car.CarService;
 import student.model.User.User;
+import student.model.utils.CarQuery;
+import student.model.utils.PageSource;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Service class to handle car booking logic.
@@ -42,31 +47,115 @@ public class CarBookingService {
     }
 
     /**
-     * Books a car for a given user by registration number.
-     * <p>
-     * It first fetches a list of all currently available cars, then checks
-     * if the given registration number matches one of them. If so, it
-     * creates a new {@link CarBooking} and saves it.
-     * </p>
+     * Books a car for a given user by registration number, open-ended from now on.
      *
      * @param user      The user who wants to book the car
      * @param regNumber The car's registration number
-     * @return The unique booking ID if booking is successful
+     * @return The created booking if booking is successful
      * @throws IllegalStateException If the car is already booked or not available
+     * @see #bookCar(User, String, LocalDateTime, LocalDateTime)
+     */
+    public CarBooking bookCar(User user, String regNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return bookCar(user, regNumber, now, null);
+    }
+
+    /**
+     * Books a car for a given user by registration number for the period between pickup and return.
+     * <p>
+     * It looks the car up via {@link CarService#findCar(String)} and stores a new
+     * {@link CarBooking} with {@link CarBookingRepository#tryBook(CarBooking)},
+     * which checks availability and books atomically per car. Concurrent calls for
+     * the same car and overlapping periods therefore succeed at most once.
+     * </p>
+     *
+     * @param user       The user who wants to book the car
+     * @param regNumber  The car's registration number
+     * @param pickupTime Time the car is picked up
+     * @param returnTime Time the car is returned, or {@code null} for an open-ended booking
+     * @return The created booking if booking is successful
+     * @throws IllegalStateException If the car is already booked during the period or not available
+     * @throws IllegalArgumentException If the return time is not after the pickup time
      */
-    public UUID bookCar(User user, String regNumber) {
-        List<Car> availableCars = getAvailableCars();
+    public CarBooking bookCar(User user, String regNumber, LocalDateTime pickupTime, LocalDateTime returnTime) {
+        Car car = carService.findCar(regNumber);
+        CarBooking booking = car == null ? null
+                : new CarBooking(UUID.randomUUID(), user, car, LocalDateTime.now(), pickupTime, returnTime);
+        if (booking == null || !carBookingRepository.tryBook(booking)) {
+            throw new IllegalStateException("Already booked or car with regNumber " + regNumber + " not available.");
+        }
+        return booking;
+    }
 
-        for (Car car : availableCars) {
-            if (car.getRegNumber().equals(regNumber)) {
-                UUID bookingId = UUID.randomUUID();
-                CarBooking booking = new CarBooking(bookingId, user, car, LocalDateTime.now());
-                carBookingRepository.book(booking);
-                return bookingId;
+    /**
+     * Books several cars for a given user in one operation, open-ended from now on.
+     *
+     * @param user         The user who wants to book the cars
+     * @param regNumbers   The cars' registration numbers
+     * @param allOrNothing Whether to book no car at all unless every car can be booked
+     * @return The created bookings, in the order of the registration numbers
+     * @throws IllegalStateException If {@code allOrNothing} is set and a car is already booked or not available
+     * @see #bookCars(User, Collection, LocalDateTime, LocalDateTime, boolean)
+     */
+    public List<CarBooking> bookCars(User user, Collection<String> regNumbers, boolean allOrNothing) {
+        LocalDateTime now = LocalDateTime.now();
+        return bookCars(user, regNumbers, now, null, allOrNothing);
+    }
+
+    /**
+     * Books several cars for a given user for the period between pickup and return.
+     * <p>
+     * Cars are looked up once each, and all bookings are handed to
+     * {@link CarBookingRepository#tryBookAll(List, boolean)}, which checks availability
+     * and stores the group atomically in a single repository write. Duplicate
+     * registration numbers are booked once.
+     * </p>
+     *
+     * @param user         The user who wants to book the cars
+     * @param regNumbers   The cars' registration numbers
+     * @param pickupTime   Time the cars are picked up
+     * @param returnTime   Time the cars are returned, or {@code null} for open-ended bookings
+     * @param allOrNothing If {@code true}, no car is booked unless every car can be booked;
+     *                     if {@code false}, unavailable or unknown cars are skipped
+     * @return The created bookings, in the order of the registration numbers
+     * @throws IllegalStateException If {@code allOrNothing} is set and a car is already booked or not available
+     * @throws IllegalArgumentException If the return time is not after the pickup time
+     */
+    public List<CarBooking> bookCars(User user, Collection<String> regNumbers, LocalDateTime pickupTime,
+                               LocalDateTime returnTime, boolean allOrNothing) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CarBooking> bookings = new ArrayList<>(regNumbers.size());
+        List<String> missing = new ArrayList<>();
+        for (String regNumber : new LinkedHashSet<>(regNumbers)) {
+            Car car = carService.findCar(regNumber);
+            if (car == null) {
+                missing.add(regNumber);
+            } else {
+                bookings.add(new CarBooking(UUID.randomUUID(), user, car, now, pickupTime, returnTime));
             }
         }
+        if (allOrNothing && !missing.isEmpty()) {
+            throw new IllegalStateException("Cars with regNumbers " + missing + " not available.");
+        }
 
-        throw new IllegalStateException("Already booked or car with regNumber " + regNumber + " not available.");
+        List<CarBooking> booked = carBookingRepository.tryBookAll(bookings, allOrNothing);
+        if (allOrNothing && booked.size() < bookings.size()) {
+            throw new IllegalStateException("Already booked or not available: none of the "
+                    + bookings.size() + " cars were booked.");
+        }
+        return booked;
+    }
+
+    /**
+     * Checks whether a car is free for the whole period between pickup and return.
+     *
+     * @param regNumber  The car's registration number
+     * @param pickupTime Start of the period (inclusive)
+     * @param returnTime End of the period (exclusive), or {@code null} for an open-ended period
+     * @return {@code true} if no active booking of the car overlaps the period
+     */
+    public boolean isCarAvailable(String regNumber, LocalDateTime pickupTime, LocalDateTime returnTime) {
+        return carBookingRepository.isCarAvailable(regNumber, pickupTime, returnTime);
     }
 
     /**
@@ -77,21 +166,43 @@ public class CarBookingService {
      */
     public List<Car> getUserBookedCars(UUID userId) {
         List<Car> result = new ArrayList<>();
-        for (CarBooking booking : carBookingRepository.getCarBookings()) {
-            if (!booking.isCanceled() && booking.getUser().getId().equals(userId)) {
-                result.add(booking.getCar());
-            }
+        for (CarBooking booking : carBookingRepository.getActiveBookingsByUser(userId)) {
+            result.add(booking.getCar());
         }
         return result;
     }
 
     /**
-     * Returns all currently available (not booked) cars.
+     * Retrieves the bookings of a specific user that are not canceled, in booking order.
+     * Uses the repository's per-user index, so the cost depends on the user's own
+     * bookings rather than on the whole booking history.
+     *
+     * @param userId The unique ID of the user
+     * @return A list of the user's active bookings
+     */
+    public List<CarBooking> getUserBookings(UUID userId) {
+        return carBookingRepository.getActiveBookingsByUser(userId);
+    }
+
+    /**
+     * Returns all currently available (not booked) cars, i.e. cars that can be
+     * booked open-ended from now on.
      *
      * @return A list of all available cars
      */
     public List<Car> getAvailableCars() {
-        return getAvailableCars(carService.getAllCars());
+        return getAvailableCars(carService.getAllCars(), LocalDateTime.now(), null);
+    }
+
+    /**
+     * Returns all cars that are free for the whole period between pickup and return.
+     *
+     * @param pickupTime Start of the period (inclusive)
+     * @param returnTime End of the period (exclusive), or {@code null} for an open-ended period
+     * @return A list of cars without an active booking overlapping the period
+     */
+    public List<Car> getAvailableCars(LocalDateTime pickupTime, LocalDateTime returnTime) {
+        return getAvailableCars(carService.getAllCars(), pickupTime, returnTime);
     }
 
     /**
@@ -100,25 +211,77 @@ public class CarBookingService {
      * @return A list of available electric cars
      */
     public List<Car> getAvailableElectricCars() {
-        return getAvailableCars(carService.getAllElectricCars());
+        return getAvailableCars(carService.getAllElectricCars(), LocalDateTime.now(), null);
+    }
+
+    /**
+     * Pages through the cars that are currently available, like {@link #getAvailableCars()}
+     * or {@link #getAvailableElectricCars()}, checking availability only for the cars of the
+     * requested page and when counting the total. Availability is checked as of the moment
+     * this method is called.
+     *
+     * @param electricOnly Whether to return electric cars only
+     * @return A source fetching one page of available cars at a time
+     */
+    public PageSource<Car> pageAvailableCars(boolean electricOnly) {
+        CarQuery query = new CarQuery().where(availableNow(electricOnly));
+        if (electricOnly) query.electric(true);
+        return carService.pageCars(query);
     }
 
     /**
-     * Internal method to filter out cars that are currently booked (not canceled).
+     * Returns the {@code k} cheapest cars that are currently available, in ascending price order.
+     * Only cars in price order up to the {@code k}-th match are checked for availability.
      *
-     * @param cars The full list of cars to filter
-     * @return A list of cars that are not currently booked
+     * @param k            The maximum number of cars to return
+     * @param electricOnly Whether to return electric cars only
+     * @return Up to {@code k} available cars
      */
-    private List<Car> getAvailableCars(List<Car> cars) {
+    public List<Car> getCheapestAvailableCars(int k, boolean electricOnly) {
+        return carService.cheapestCars(k, availableNow(electricOnly));
+    }
+
+    /**
+     * Returns the {@code k} most expensive cars that are currently available, in descending price order.
+     * Only cars in price order up to the {@code k}-th match are checked for availability.
+     *
+     * @param k            The maximum number of cars to return
+     * @param electricOnly Whether to return electric cars only
+     * @return Up to {@code k} available cars
+     */
+    public List<Car> getMostExpensiveAvailableCars(int k, boolean electricOnly) {
+        return carService.mostExpensiveCars(k, availableNow(electricOnly));
+    }
+
+    /**
+     * Returns a filter accepting cars that are free from now on, optionally electric only.
+     *
+     * @param electricOnly Whether to accept electric cars only
+     * @return The filter
+     */
+    private Predicate<Car> availableNow(boolean electricOnly) {
+        LocalDateTime now = LocalDateTime.now();
+        return car -> (!electricOnly || car.isElectric())
+                && carBookingRepository.isCarAvailable(car.getRegNumber(), now, null);
+    }
+
+    /**
+     * Internal method to filter out cars with an active booking overlapping a period.
+     * Each check is one {@code O(log n)} lookup in the car's booking schedule, so the
+     * cost is linear in the number of cars regardless of how many bookings have been made.
+     *
+     * @param cars       The full list of cars to filter
+     * @param pickupTime Start of the period (inclusive)
+     * @param returnTime End of the period (exclusive), or {@code null} for an open-ended period
+     * @return A list of cars that are free for the period
+     */
+    private List<Car> getAvailableCars(List<Car> cars, LocalDateTime pickupTime, LocalDateTime returnTime) {
         if (cars.isEmpty()) return Collections.emptyList();
 
-        List<CarBooking> bookings = carBookingRepository.getCarBookings();
         List<Car> available = new ArrayList<>();
 
         for (Car car : cars) {
-            boolean booked = bookings.stream()
-                    .anyMatch(b -> !b.isCanceled() && b.getCar().equals(car));
-            if (!booked) {
+            if (carBookingRepository.isCarAvailable(car.getRegNumber(), pickupTime, returnTime)) {
                 available.add(car);
             }
         }
@@ -134,28 +297,44 @@ public class CarBookingService {
         return carBookingRepository.getCarBookings();
     }
 
+    /**
+     * Returns a snapshot of all car bookings (including canceled ones) that later
+     * bookings do not change, for readers on other threads such as the GUI.
+     *
+     * @return An unmodifiable copy of all car bookings
+     */
+    public List<CarBooking> getBookingsSnapshot() {
+        return carBookingRepository.snapshotCarBookings();
+    }
+
+    /**
+     * Finds a booking, canceled or not, by its unique booking ID in constant time.
+     *
+     * @param bookingId The unique booking ID
+     * @return The booking, or {@code null} if not found
+     */
+    public CarBooking findBooking(UUID bookingId) {
+        return carBookingRepository.findById(bookingId);
+    }
+
     /**
      * Cancels a car booking identified by its unique booking ID.
      * <p>
-     * This method first looks up the booking. If the booking is found and
-     * not yet canceled, it calls {@code carBookingRepository.cancelCarBooking(bookingId)}
-     * to finalize the cancellation. If the booking is already canceled,
-     * or not found at all, an exception is thrown.
+     * This method first looks up the booking via {@link CarBookingRepository#findById(UUID)}.
+     * If the booking is found, it calls {@code carBookingRepository.cancelCarBooking(bookingId)},
+     * which checks under the repository lock that the booking is not yet canceled, so
+     * concurrent cancellations of the same booking succeed only once.
+     * If the booking is already canceled, or not found at all, an exception is thrown.
      * </p>
      *
      * @param bookingId The unique booking ID to cancel
      * @throws IllegalStateException If booking is already canceled or not found
      */
     public void cancelBooking(UUID bookingId) {
-        for (CarBooking booking : carBookingRepository.getCarBookings()) {
-            if (booking.getBookingId().equals(bookingId)) {
-                if (booking.isCanceled()) {
-                    throw new IllegalStateException("Booking already canceled.");
-                }
-                carBookingRepository.cancelCarBooking(bookingId);
-                return;
-            }
+        CarBooking booking = carBookingRepository.findById(bookingId);
+        if (booking == null) {
+            throw new IllegalStateException("Booking not found.");
         }
-        throw new IllegalStateException("Booking not found.");
+        carBookingRepository.cancelCarBooking(bookingId);
     }
 }
\ No newline at end of file
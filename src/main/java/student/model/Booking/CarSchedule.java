@@ -0,0 +1,105 @@
+package student.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Sorted interval set of the active bookings of a single car.
+ * <p>
+ * Bookings are ordered by pickup time. Because {@link CarBookingRepository#tryBook(CarBooking)}
+ * never admits two overlapping active bookings for one car, the intervals are disjoint,
+ * and the only booking that can overlap a period {@code [from, to)} is the one with the
+ * latest pickup before {@code to}. An availability check is therefore a single
+ * {@code O(log n)} lookup in the tree, independent of the car's booking history.
+ * {@link #add(CarBooking)} enforces this by rejecting overlapping bookings.
+ * </p>
+ *
+ * <p>All methods are synchronized on the schedule, so concurrent readers see a
+ * consistent tree while another thread books or cancels the same car.</p>
+ */
+final class CarSchedule {
+
+    /**
+     * Smallest booking ID under {@link UUID#compareTo(UUID)}, used for search keys.
+     */
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    /**
+     * Orders bookings by pickup time, then by ID so that equal pickups are kept apart.
+     */
+    private static final Comparator<CarBooking> BY_PICKUP =
+            Comparator.comparing(CarBooking::getPickupTime).thenComparing(CarBooking::getBookingId);
+
+    /**
+     * Active bookings of the car, ordered by pickup time.
+     */
+    private final TreeSet<CarBooking> bookings = new TreeSet<>(BY_PICKUP);
+
+    /**
+     * Adds an active booking.
+     *
+     * @param booking the booking
+     * @throws IllegalStateException if the booking overlaps an active booking in the schedule
+     */
+    synchronized void add(CarBooking booking) {
+        if (!isFree(booking.getPickupTime(), booking.getReturnTime())) {
+            throw new IllegalStateException("❌ Booking " + booking.getBookingId()
+                    + " overlaps an active booking of car " + booking.getCar().getRegNumber());
+        }
+        bookings.add(booking);
+    }
+
+    /**
+     * Removes a booking.
+     *
+     * @param booking the booking
+     */
+    synchronized void remove(CarBooking booking) {
+        bookings.remove(booking);
+    }
+
+    /**
+     * @return whether the schedule holds no bookings
+     */
+    synchronized boolean isEmpty() {
+        return bookings.isEmpty();
+    }
+
+    /**
+     * Checks whether no active booking overlaps the given period. Bookings that were
+     * canceled in place (via {@link CarBooking#setCanceled(boolean)}) are dropped on the way.
+     *
+     * @param from start of the period (inclusive)
+     * @param to   end of the period (exclusive), or {@code null} for an open-ended period
+     * @return {@code true} if the car is free for the whole period
+     */
+    synchronized boolean isFree(LocalDateTime from, LocalDateTime to) {
+        while (true) {
+            CarBooking candidate = to == null ? lastOrNull() : bookings.lower(searchKey(to));
+            if (candidate == null) return true;
+            if (!candidate.isCanceled()) return !candidate.overlaps(from, to);
+            bookings.remove(candidate);
+        }
+    }
+
+    /**
+     * Returns the booking with the latest pickup time.
+     *
+     * @return the last booking, or {@code null} if the schedule is empty
+     */
+    private CarBooking lastOrNull() {
+        return bookings.isEmpty() ? null : bookings.last();
+    }
+
+    /**
+     * Builds a key that sorts before every booking picked up at the given time.
+     *
+     * @param pickupTime the pickup time
+     * @return the search key
+     */
+    private static CarBooking searchKey(LocalDateTime pickupTime) {
+        return new CarBooking(MIN_ID, null, null, pickupTime);
+    }
+}
@@ -1,5 +1,7 @@
 package student.model.Car;
 
+import student.model.utils.Money;
+
 import java.math.BigDecimal;
 import java.util.Objects;
 
@@ -18,9 +20,9 @@ public class Car {
     private String regNumber;
 
     /**
-     * The rental price of the car per day.
+     * The rental price of the car per day, as fixed-point money with the scale it was given in.
      */
-    private BigDecimal rentalPricePerDay;
+    private Money rentalPrice;
 
     /**
      * The brand of the car (e.g., TESLA, AUDI).
@@ -48,7 +50,24 @@ public class Car {
      */
     public Car(String regNumber, BigDecimal rentalPricePerDay, Brand brand, boolean isElectric, String model) {
         this.regNumber = regNumber;
-        this.rentalPricePerDay = rentalPricePerDay;
+        this.rentalPrice = rentalPricePerDay == null ? null : Money.of(rentalPricePerDay);
+        this.brand = brand;
+        this.isElectric = isElectric;
+        this.model = model;
+    }
+
+    /**
+     * Constructs a new {@code Car} whose price is already fixed-point money.
+     *
+     * @param regNumber   The unique registration number.
+     * @param rentalPrice The rental price per day.
+     * @param brand       The brand of the car.
+     * @param isElectric  {@code true} if the car is electric, {@code false} otherwise.
+     * @param model       The model name.
+     */
+    public Car(String regNumber, Money rentalPrice, Brand brand, boolean isElectric, String model) {
+        this.regNumber = regNumber;
+        this.rentalPrice = rentalPrice;
         this.brand = brand;
         this.isElectric = isElectric;
         this.model = model;
@@ -65,11 +84,22 @@ public class Car {
 
     /**
      * Returns the daily rental price of the car.
+     * The result equals the price the car was created with, including its scale.
      *
      * @return the rental price per day
      */
     public BigDecimal getRentalPricePerDay() {
-        return rentalPricePerDay;
+        return rentalPrice == null ? null : rentalPrice.toBigDecimal();
+    }
+
+    /**
+     * Returns the daily rental price of the car as fixed-point money, for comparing
+     * and formatting prices without {@link BigDecimal} arithmetic.
+     *
+     * @return the rental price per day
+     */
+    public Money getRentalPrice() {
+        return rentalPrice;
     }
 
     /**
@@ -121,7 +151,7 @@ public class Car {
         Car car = (Car) o;
         return isElectric == car.isElectric &&
                 Objects.equals(regNumber, car.regNumber) &&
-                Objects.equals(rentalPricePerDay, car.rentalPricePerDay) &&
+                Objects.equals(rentalPrice, car.rentalPrice) &&
                 brand == car.brand &&
                 Objects.equals(model, car.model);
     }
@@ -133,7 +163,7 @@ public class Car {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(regNumber, rentalPricePerDay, brand, isElectric, model);
+        return Objects.hash(regNumber, rentalPrice, brand, isElectric, model);
     }
 
     /**
@@ -147,7 +177,7 @@ public class Car {
                 brand,
                 model,
                 regNumber,
-                rentalPricePerDay,
+                getRentalPricePerDay(),
                 isElectric ? "Electric" : "Gas"
         );
     }
@@ -0,0 +1,498 @@
+package student.model.Car;
+
+import student.model.utils.CarKeywordIndex;
+import student.model.utils.CarPriceIndex;
+import student.model.utils.Money;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Memory-compact {@link CarRepository} that stores the fleet column by column
+ * in primitive arrays instead of one {@link Car} object per vehicle.
+ * <p>
+ * Columns:
+ * </p>
+ * <ul>
+ *   <li>registration numbers as UTF-8 bytes in one shared array plus offsets,</li>
+ *   <li>prices as {@code long} values at a common scale (cents for typical data),
+ *       with each car's original scale kept in a {@code byte} so views are exact;
+ *       if the prices do not share a scale that fits in a {@code long}, each keeps its
+ *       own scale and price scans compare {@link Money} instead,</li>
+ *   <li>brands as {@code byte} ordinals,</li>
+ *   <li>the electric flag as a {@link BitSet},</li>
+ *   <li>models as {@code int} codes into a dictionary of distinct model names.</li>
+ * </ul>
+ * <p>
+ * {@link Car} objects are created on demand: {@link #getAllCars()} returns a
+ * read-only list view that builds a {@code Car} per access, and the column
+ * scans ({@link #findElectric()}, {@link #findByBrand(Brand)},
+ * {@link #findByPriceRange(BigDecimal, BigDecimal)}) only materialize matches.
+ * Registration number lookups use an open-addressing index over car positions.
+ * </p>
+ *
+ * <p><strong>Note:</strong> Views are new objects on every access, so cars should
+ * be compared with {@link Car#equals(Object)} rather than by identity.</p>
+ */
+public class CarColumnarRepository implements CarRepository {
+
+    /**
+     * The relative file path to the car data CSV file.
+     */
+    private static final String CAR_FILE_PATH = "data/cars.csv";
+
+    /**
+     * Brand constants, by ordinal.
+     */
+    private static final Brand[] BRANDS = Brand.values();
+
+    /**
+     * Number of cars stored.
+     */
+    private int size;
+
+    /**
+     * Concatenated UTF-8 bytes of all registration numbers.
+     */
+    private byte[] regBytes = new byte[256];
+
+    /**
+     * Start of each registration number in {@link #regBytes}; entry {@code size} is the end.
+     */
+    private int[] regOffsets = new int[33];
+
+    /**
+     * Prices as unscaled values at {@link #priceScale}, or at their own scale if not {@link #commonScale}.
+     */
+    private long[] prices = new long[32];
+
+    /**
+     * Original scale of each price.
+     */
+    private byte[] priceScales = new byte[32];
+
+    /**
+     * Common scale of {@link #prices}.
+     */
+    private int priceScale;
+
+    /**
+     * Whether all {@link #prices} are at {@link #priceScale}.
+     */
+    private boolean commonScale;
+
+    /**
+     * Prices that do not fit the price columns, by car position; their column entries are unused.
+     */
+    private final Map<Integer, Money> widePrices = new HashMap<>();
+
+    /**
+     * Brand ordinals.
+     */
+    private byte[] brands = new byte[32];
+
+    /**
+     * Electric flag per car position.
+     */
+    private final BitSet electric = new BitSet();
+
+    /**
+     * Dictionary codes of the model names.
+     */
+    private int[] models = new int[32];
+
+    /**
+     * Distinct model names, indexed by code.
+     */
+    private final List<String> modelDictionary = new ArrayList<>();
+
+    /**
+     * Codes of the model names in {@link #modelDictionary}; only used while loading.
+     */
+    private final Map<String, Integer> modelCodes = new HashMap<>();
+
+    /**
+     * Open-addressing table of car positions plus one, keyed by registration number; zero is empty.
+     */
+    private int[] regIndex;
+
+    /**
+     * Read-only list view creating {@link Car} objects on access.
+     */
+    private final List<Car> carView = new CarView();
+
+    /**
+     * Price index of the fleet, built on first use.
+     */
+    private volatile CarPriceIndex priceIndex;
+
+    /**
+     * Keyword index of the fleet, built on first use.
+     */
+    private volatile CarKeywordIndex keywordIndex;
+
+    /**
+     * Constructs a new {@code CarColumnarRepository} and loads car data from {@code data/cars.csv}.
+     */
+    public CarColumnarRepository() {
+        this(CAR_FILE_PATH);
+    }
+
+    /**
+     * Constructs a new {@code CarColumnarRepository} and loads car data from the given file.
+     * Rows are streamed straight into the columns without keeping {@link Car} objects.
+     * If the file does not exist, the repository is empty.
+     *
+     * @param filePath path of the car CSV file
+     * @throws IllegalStateException if the file cannot be read
+     */
+    public CarColumnarRepository(String filePath) {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            System.err.println("⚠️ " + file.getName() + " not found at " + filePath);
+        } else {
+            try (InputStream in = new FileInputStream(file)) {
+                new CarCsvParser().parse(in, this::append);
+            } catch (IOException e) {
+                throw new IllegalStateException("❌ Failed to read " + file.getName(), e);
+            }
+        }
+        seal();
+    }
+
+    /**
+     * Constructs a new {@code CarColumnarRepository} holding the given cars.
+     *
+     * @param cars the cars to store
+     */
+    public CarColumnarRepository(List<Car> cars) {
+        for (Car car : cars) {
+            append(car);
+        }
+        seal();
+    }
+
+    /**
+     * Returns a read-only view of all cars. Each access creates a new {@link Car}.
+     *
+     * @return a list view of all cars
+     */
+    @Override
+    public List<Car> getAllCars() {
+        return carView;
+    }
+
+    /**
+     * Finds a car by its registration number using the position index.
+     * If several cars share a registration number, the first one wins.
+     *
+     * @param regNumber the registration number to look up
+     * @return the matching {@link Car}, or {@code null} if not found
+     */
+    @Override
+    public Car findByRegNumber(String regNumber) {
+        byte[] key = regNumber.getBytes(StandardCharsets.UTF_8);
+        int mask = regIndex.length - 1;
+        for (int slot = hash(key, 0, key.length) & mask; regIndex[slot] != 0; slot = (slot + 1) & mask) {
+            int position = regIndex[slot] - 1;
+            if (Arrays.equals(key, 0, key.length, regBytes, regOffsets[position], regOffsets[position + 1])) {
+                return carAt(position);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the price index of the fleet, building it on the first call.
+     * The index holds one {@link Car} view per car from then on.
+     *
+     * @return the cached {@link CarPriceIndex}
+     */
+    @Override
+    public CarPriceIndex getPriceIndex() {
+        CarPriceIndex index = priceIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = priceIndex;
+                if (index == null) {
+                    index = new CarPriceIndex(carView);
+                    priceIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the keyword index of the fleet, building it on the first call.
+     *
+     * @return the cached {@link CarKeywordIndex}
+     */
+    @Override
+    public CarKeywordIndex getKeywordIndex() {
+        CarKeywordIndex index = keywordIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = keywordIndex;
+                if (index == null) {
+                    index = new CarKeywordIndex(carView);
+                    keywordIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns all electric cars by scanning the electric bitset.
+     *
+     * @return a list of electric cars in storage order
+     */
+    public List<Car> findElectric() {
+        List<Car> result = new ArrayList<>(electric.cardinality());
+        for (int i = electric.nextSetBit(0); i >= 0 && i < size; i = electric.nextSetBit(i + 1)) {
+            result.add(carAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns all cars of the given brand by scanning the brand column.
+     *
+     * @param brand the brand to match
+     * @return a list of matching cars in storage order
+     */
+    public List<Car> findByBrand(Brand brand) {
+        byte ordinal = (byte) brand.ordinal();
+        List<Car> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (brands[i] == ordinal) result.add(carAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns all cars whose rental price lies within the given range by scanning the price column.
+     *
+     * @param min the minimum price (inclusive)
+     * @param max the maximum price (inclusive)
+     * @return a list of matching cars in storage order
+     */
+    public List<Car> findByPriceRange(BigDecimal min, BigDecimal max) {
+        if (!commonScale) {
+            Money lowPrice = Money.of(min);
+            Money highPrice = Money.of(max);
+            List<Car> result = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                Money price = priceAt(i);
+                if (price.compareTo(lowPrice) >= 0 && price.compareTo(highPrice) <= 0) result.add(carAt(i));
+            }
+            return result;
+        }
+
+        long low = toScaled(min, RoundingMode.CEILING);
+        long high = toScaled(max, RoundingMode.FLOOR);
+        List<Car> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            long price = prices[i];
+            if (price >= low && price <= high) result.add(carAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of stored cars.
+     *
+     * @return the fleet size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a {@link Car} view of the given position.
+     *
+     * @param position the car position
+     * @return a new car holding the stored values
+     */
+    private Car carAt(int position) {
+        String regNumber = new String(regBytes, regOffsets[position],
+                regOffsets[position + 1] - regOffsets[position], StandardCharsets.UTF_8);
+        return new Car(regNumber, priceAt(position), BRANDS[brands[position]], electric.get(position),
+                modelDictionary.get(models[position]));
+    }
+
+    /**
+     * Returns the price of the given position at its original scale.
+     *
+     * @param position the car position
+     * @return the rental price
+     */
+    private Money priceAt(int position) {
+        if (!widePrices.isEmpty()) {
+            Money wide = widePrices.get(position);
+            if (wide != null) return wide;
+        }
+        long units = prices[position];
+        if (commonScale) {
+            for (int s = priceScales[position]; s < priceScale; s++) {
+                units /= 10;
+            }
+        }
+        return new Money(units, priceScales[position], Money.DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Appends a car to the columns. Prices are kept at their own scale until {@link #seal()}.
+     *
+     * @param car the car to append
+     */
+    private void append(Car car) {
+        if (size == prices.length) {
+            int capacity = size * 2;
+            prices = Arrays.copyOf(prices, capacity);
+            priceScales = Arrays.copyOf(priceScales, capacity);
+            brands = Arrays.copyOf(brands, capacity);
+            models = Arrays.copyOf(models, capacity);
+            regOffsets = Arrays.copyOf(regOffsets, capacity + 1);
+        }
+
+        byte[] reg = car.getRegNumber().getBytes(StandardCharsets.UTF_8);
+        int regStart = regOffsets[size];
+        if (regStart + reg.length > regBytes.length) {
+            regBytes = Arrays.copyOf(regBytes, Math.max(regBytes.length * 2, regStart + reg.length));
+        }
+        System.arraycopy(reg, 0, regBytes, regStart, reg.length);
+        regOffsets[size + 1] = regStart + reg.length;
+
+        Money price = car.getRentalPrice();
+        if (!price.getCurrency().equals(Money.DEFAULT_CURRENCY)) {
+            throw new IllegalArgumentException("Unsupported price currency for car " + car.getRegNumber());
+        }
+        if (price.getScale() < Byte.MIN_VALUE || price.getScale() > Byte.MAX_VALUE) {
+            widePrices.put(size, price);
+        } else {
+            try {
+                prices[size] = price.getUnits();
+                priceScales[size] = (byte) price.getScale();
+            } catch (ArithmeticException e) {
+                widePrices.put(size, price);
+            }
+        }
+
+        brands[size] = (byte) car.getBrand().ordinal();
+        if (car.isElectric()) electric.set(size);
+        models[size] = modelCodes.computeIfAbsent(car.getModel(), model -> {
+            modelDictionary.add(model);
+            return modelDictionary.size() - 1;
+        });
+        size++;
+    }
+
+    /**
+     * Trims the columns, brings all prices to a common scale if they fit in a {@code long} at it,
+     * and builds the registration index.
+     */
+    private void seal() {
+        prices = Arrays.copyOf(prices, size);
+        priceScales = Arrays.copyOf(priceScales, size);
+        brands = Arrays.copyOf(brands, size);
+        models = Arrays.copyOf(models, size);
+        regOffsets = Arrays.copyOf(regOffsets, size + 1);
+        regBytes = Arrays.copyOf(regBytes, regOffsets[size]);
+        modelCodes.clear();
+
+        for (int i = 0; i < size; i++) {
+            priceScale = Math.max(priceScale, priceScales[i]);
+        }
+        commonScale = widePrices.isEmpty();
+        if (commonScale) {
+            long[] scaled = prices.clone();
+            try {
+                for (int i = 0; i < size; i++) {
+                    for (int s = priceScales[i]; s < priceScale; s++) {
+                        scaled[i] = Math.multiplyExact(scaled[i], 10L);
+                    }
+                }
+                prices = scaled;
+            } catch (ArithmeticException e) {
+                commonScale = false;
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+        regIndex = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hash(regBytes, regOffsets[i], regOffsets[i + 1]) & mask;
+            boolean duplicate = false;
+            while (regIndex[slot] != 0) {
+                int other = regIndex[slot] - 1;
+                if (Arrays.equals(regBytes, regOffsets[i], regOffsets[i + 1],
+                        regBytes, regOffsets[other], regOffsets[other + 1])) {
+                    duplicate = true;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!duplicate) regIndex[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Converts a price bound to the common price scale, clamping values outside the {@code long} range.
+     *
+     * @param value the bound to convert
+     * @param mode  rounding applied to digits beyond the price scale
+     * @return the scaled bound
+     */
+    private long toScaled(BigDecimal value, RoundingMode mode) {
+        BigDecimal scaled = value.setScale(priceScale, mode).movePointRight(priceScale);
+        if (scaled.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) >= 0) return Long.MAX_VALUE;
+        if (scaled.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) <= 0) return Long.MIN_VALUE;
+        return scaled.longValueExact();
+    }
+
+    /**
+     * Hashes a byte range.
+     *
+     * @param bytes the bytes
+     * @param from  the start of the range
+     * @param to    the end of the range
+     * @return the hash
+     */
+    private static int hash(byte[] bytes, int from, int to) {
+        int h = 1;
+        for (int i = from; i < to; i++) h = 31 * h + bytes[i];
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Read-only list of {@link Car} views over the columns.
+     */
+    private final class CarView extends AbstractList<Car> implements RandomAccess {
+        @Override
+        public Car get(int index) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+            return carAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
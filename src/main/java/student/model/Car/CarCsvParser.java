@@ -0,0 +1,383 @@
+package student.model.Car;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Streaming parser for car CSV data in the format {@code regNumber,brand,price,isElectric,model}.
+ * <p>
+ * The parser reads raw bytes into a reusable buffer and splits fields by scanning
+ * for commas, without regular expressions or intermediate line strings. Brands are
+ * matched byte-wise against the {@link Brand} constants, and model names are
+ * deduplicated through an intern pool, so a large fleet shares one {@code String}
+ * per distinct model. Only the registration number is allocated per row.
+ * </p>
+ *
+ * <p>Lines are accepted and rejected exactly like {@code line.split(",")} with a
+ * minimum of five fields: shorter lines are skipped, extra fields are ignored,
+ * and an unknown brand or malformed price throws the same exceptions as
+ * {@link Brand#valueOf(String)} and {@link BigDecimal#BigDecimal(String)}.</p>
+ *
+ * <p>A parser instance is not thread-safe, but may be reused for several inputs;
+ * the model pool is kept between calls.</p>
+ */
+public class CarCsvParser {
+
+    /**
+     * Default size of the read buffer in bytes.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Brand constants, by ordinal.
+     */
+    private static final Brand[] BRANDS = Brand.values();
+
+    /**
+     * ASCII bytes of each brand name, by ordinal.
+     */
+    private static final byte[][] BRAND_NAMES = new byte[BRANDS.length][];
+
+    static {
+        for (Brand brand : BRANDS) {
+            BRAND_NAMES[brand.ordinal()] = brand.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Read buffer; grows only if a single line does not fit.
+     */
+    private byte[] buffer;
+
+    /**
+     * Scratch buffer for price digits.
+     */
+    private char[] digits = new char[32];
+
+    /**
+     * Intern pool of model names.
+     */
+    private final ModelPool models = new ModelPool();
+
+    /**
+     * Number of cars produced by the last call to {@link #parse(InputStream, Consumer)}.
+     */
+    private long rowsParsed;
+
+    /**
+     * Duration of the last call to {@link #parse(InputStream, Consumer)}, in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Constructs a parser with the default buffer size.
+     */
+    public CarCsvParser() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a parser with the given initial buffer size.
+     *
+     * @param bufferSize the initial read buffer size in bytes
+     */
+    CarCsvParser(int bufferSize) {
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Parses all rows of the input and passes each resulting {@link Car} to the sink.
+     * The stream is read to the end but not closed.
+     *
+     * @param in   the CSV input
+     * @param sink receives each parsed car in file order
+     * @return the number of cars parsed
+     * @throws IOException if the input cannot be read
+     */
+    public long parse(InputStream in, Consumer<Car> sink) throws IOException {
+        long startNanos = System.nanoTime();
+        long rows = 0;
+        int start = 0;
+        int end = 0;
+        int scan = 0;
+        boolean eof = false;
+
+        while (true) {
+            int lineEnd = indexOfLineEnd(scan, end);
+            if (lineEnd >= 0) {
+                if (parseLine(start, lineEnd, sink)) rows++;
+                start = lineEnd + 1;
+                scan = start;
+                continue;
+            }
+            if (eof) {
+                if (start < end && parseLine(start, end, sink)) rows++;
+                break;
+            }
+
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+            } else if (end == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            scan = end;
+
+            int read = in.read(buffer, end, buffer.length - end);
+            if (read < 0) {
+                eof = true;
+            } else {
+                end += read;
+            }
+        }
+
+        this.rowsParsed = rows;
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        return rows;
+    }
+
+    /**
+     * Returns the number of cars produced by the last parse.
+     *
+     * @return the row count
+     */
+    public long getRowsParsed() {
+        return rowsParsed;
+    }
+
+    /**
+     * Returns the throughput of the last parse in rows per second.
+     *
+     * @return rows per second, or {@code 0} if nothing has been parsed yet
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowsParsed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Finds the next {@code '\n'} or {@code '\r'} in the buffer.
+     *
+     * @param from the first position to check
+     * @param to   the end of the valid data
+     * @return the position of the line terminator, or {@code -1} if there is none
+     */
+    private int indexOfLineEnd(int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer[i];
+            if (b == '\n' || b == '\r') return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Parses one line of the buffer. A {@code "\r\n"} terminator yields an
+     * empty line, which is skipped like any other short line.
+     *
+     * @param from the start of the line
+     * @param to   the end of the line (exclusive)
+     * @param sink receives the parsed car
+     * @return {@code true} if a car was produced
+     */
+    private boolean parseLine(int from, int to, Consumer<Car> sink) {
+        int regEnd = indexOfComma(from, to);
+        if (regEnd == to) return false;
+        int brandEnd = indexOfComma(regEnd + 1, to);
+        if (brandEnd == to) return false;
+        int priceEnd = indexOfComma(brandEnd + 1, to);
+        if (priceEnd == to) return false;
+        int electricEnd = indexOfComma(priceEnd + 1, to);
+        if (electricEnd == to || !hasContent(electricEnd + 1, to)) return false;
+        int modelEnd = indexOfComma(electricEnd + 1, to);
+
+        String regNumber = decode(from, regEnd);
+        Brand brand = parseBrand(regEnd + 1, brandEnd);
+        BigDecimal price = parsePrice(brandEnd + 1, priceEnd);
+        boolean isElectric = parseBoolean(priceEnd + 1, electricEnd);
+        String model = models.intern(buffer, electricEnd + 1, modelEnd);
+
+        sink.accept(new Car(regNumber, price, brand, isElectric, model));
+        return true;
+    }
+
+    /**
+     * Finds the next comma within the line.
+     *
+     * @param from the first position to check
+     * @param to   the end of the line
+     * @return the position of the comma, or {@code to} if there is none
+     */
+    private int indexOfComma(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == ',') return i;
+        }
+        return to;
+    }
+
+    /**
+     * Checks whether the range contains anything other than commas, i.e. whether
+     * {@code split(",")} would keep a field starting at {@code from}.
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @return {@code true} if a non-comma byte is present
+     */
+    private boolean hasContent(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] != ',') return true;
+        }
+        return false;
+    }
+
+    /**
+     * Matches the brand field against the known brand names.
+     *
+     * @param from the start of the field
+     * @param to   the end of the field
+     * @return the matching brand
+     * @throws IllegalArgumentException if the field is not a brand name
+     */
+    private Brand parseBrand(int from, int to) {
+        for (int b = 0; b < BRAND_NAMES.length; b++) {
+            if (Arrays.equals(BRAND_NAMES[b], 0, BRAND_NAMES[b].length, buffer, from, to)) {
+                return BRANDS[b];
+            }
+        }
+        return Brand.valueOf(decode(from, to));
+    }
+
+    /**
+     * Parses the price field without creating an intermediate string for ASCII input.
+     *
+     * @param from the start of the field
+     * @param to   the end of the field
+     * @return the price
+     * @throws NumberFormatException if the field is not a valid decimal
+     */
+    private BigDecimal parsePrice(int from, int to) {
+        BigDecimal plain = parsePlainDecimal(from, to);
+        if (plain != null) return plain;
+
+        int length = to - from;
+        if (length > digits.length) digits = new char[length];
+        for (int i = 0; i < length; i++) {
+            byte b = buffer[from + i];
+            if (b < 0) return new BigDecimal(decode(from, to));
+            digits[i] = (char) b;
+        }
+        return new BigDecimal(digits, 0, length);
+    }
+
+    /**
+     * Parses the common price form {@code [-]digits[.digits]} with at most 18 digits
+     * directly into an unscaled {@code long}. The result has the same value and scale
+     * as {@link BigDecimal#BigDecimal(String)} would produce.
+     *
+     * @param from the start of the field
+     * @param to   the end of the field
+     * @return the price, or {@code null} if the field needs the general parser
+     */
+    private BigDecimal parsePlainDecimal(int from, int to) {
+        int i = from;
+        boolean negative = i < to && buffer[i] == '-';
+        if (negative) i++;
+
+        long unscaled = 0;
+        int digitCount = 0;
+        int scale = -1;
+        for (; i < to; i++) {
+            byte b = buffer[i];
+            if (b >= '0' && b <= '9') {
+                if (++digitCount > 18) return null;
+                unscaled = unscaled * 10 + (b - '0');
+                if (scale >= 0) scale++;
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digitCount == 0) return null;
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    /**
+     * Parses the electric flag like {@link Boolean#parseBoolean(String)}.
+     *
+     * @param from the start of the field
+     * @param to   the end of the field
+     * @return {@code true} if the field equals {@code "true"}, ignoring case
+     */
+    private boolean parseBoolean(int from, int to) {
+        return to - from == 4
+                && (buffer[from] | 0x20) == 't'
+                && (buffer[from + 1] | 0x20) == 'r'
+                && (buffer[from + 2] | 0x20) == 'u'
+                && (buffer[from + 3] | 0x20) == 'e';
+    }
+
+    /**
+     * Decodes a byte range as UTF-8.
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @return the decoded string
+     */
+    private String decode(int from, int to) {
+        return new String(buffer, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Open-addressing pool mapping model name bytes to a shared {@code String}.
+     * Lookups of an already known model compare bytes in place and allocate nothing.
+     */
+    private static final class ModelPool {
+        private byte[][] keys = new byte[64][];
+        private String[] values = new String[64];
+        private int size;
+
+        String intern(byte[] bytes, int from, int to) {
+            int hash = hash(bytes, from, to);
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (Arrays.equals(keys[slot], 0, keys[slot].length, bytes, from, to)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            byte[] key = Arrays.copyOfRange(bytes, from, to);
+            String value = new String(key, StandardCharsets.UTF_8);
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) resize();
+            return value;
+        }
+
+        private void resize() {
+            byte[][] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new String[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == null) continue;
+                int slot = hash(oldKeys[i], 0, oldKeys[i].length) & mask;
+                while (keys[slot] != null) slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private static int hash(byte[] bytes, int from, int to) {
+            int h = 1;
+            for (int i = from; i < to; i++) h = 31 * h + bytes[i];
+            return h ^ (h >>> 16);
+        }
+    }
+}
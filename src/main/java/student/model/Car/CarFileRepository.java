@@ -1,15 +1,21 @@
 package student.model.Car;
 
+import student.model.utils.CarKeywordIndex;
+import student.model.utils.CarPriceIndex;
+
 import java.io.*;
-import java.math.BigDecimal;
 import java.util.*;
 
 /**
  * Implementation of {@link CarRepository} that loads car data from a CSV file.
  * <p>
- * This class reads car information from {@code data/cars.csv} during construction,
+ * This class reads car information from {@code data/cars.csv} (or a given file) during construction,
  * and stores all loaded {@link Car} objects in memory.
  * It supports reading brand, registration number, price, electric status, and model.
+ * A hash index by registration number, a {@link CarPriceIndex} and a
+ * {@link CarKeywordIndex} are built once after loading, so
+ * {@link #findByRegNumber(String)} is a constant-time lookup, price queries
+ * never re-sort the fleet, and keyword searches do not scan every car.
  * </p>
  *
  * <p><strong>Note:</strong> This class does not support saving changes back to the file.</p>
@@ -26,12 +32,45 @@ public class CarFileRepository implements CarRepository {
      */
     private final List<Car> cars;
 
+    /**
+     * Index of the loaded cars keyed by registration number.
+     */
+    private final Map<String, Car> carsByRegNumber;
+
+    /**
+     * Index of the loaded cars ordered by rental price.
+     */
+    private final CarPriceIndex priceIndex;
+
+    /**
+     * Substring index over brand, model and registration number of the loaded cars.
+     */
+    private final CarKeywordIndex keywordIndex;
+
+    /**
+     * Time spent reading and parsing the file, in nanoseconds.
+     */
+    private long loadNanos;
+
     /**
      * Constructs a new {@code CarFileRepository} and loads car data from file.
      * If the file does not exist or fails to parse, the internal list will be empty.
      */
     public CarFileRepository() {
-        this.cars = loadCarsFromFile();
+        this(CAR_FILE_PATH);
+    }
+
+    /**
+     * Constructs a new {@code CarFileRepository} and loads car data from the given file.
+     * If the file does not exist, the internal list will be empty.
+     *
+     * @param filePath path of the car CSV file
+     */
+    public CarFileRepository(String filePath) {
+        this.cars = loadCarsFromFile(filePath);
+        this.carsByRegNumber = indexByRegNumber(cars);
+        this.priceIndex = new CarPriceIndex(cars);
+        this.keywordIndex = new CarKeywordIndex(cars);
     }
 
     /**
@@ -45,40 +84,88 @@ public class CarFileRepository implements CarRepository {
     }
 
     /**
-     * Loads cars from the {@code data/cars.csv} file and constructs {@link Car} objects.
+     * Finds a car by its registration number using the in-memory hash index.
+     *
+     * @param regNumber the registration number to look up
+     * @return the matching {@link Car}, or {@code null} if not found
+     */
+    @Override
+    public Car findByRegNumber(String regNumber) {
+        return carsByRegNumber.get(regNumber);
+    }
+
+    /**
+     * Returns the throughput of loading the file in rows per second.
+     *
+     * @return rows per second, or {@code 0} if no file was loaded
+     */
+    public double getLoadRowsPerSecond() {
+        return loadNanos == 0 ? 0 : cars.size() * 1_000_000_000.0 / loadNanos;
+    }
+
+    /**
+     * Returns the price index built when the file was loaded.
+     *
+     * @return the cached {@link CarPriceIndex}
+     */
+    @Override
+    public CarPriceIndex getPriceIndex() {
+        return priceIndex;
+    }
+
+    /**
+     * Returns the keyword index built when the file was loaded.
+     *
+     * @return the cached {@link CarKeywordIndex}
+     */
+    @Override
+    public CarKeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    /**
+     * Builds the registration number index. If the file contains duplicate
+     * registration numbers, the first occurrence wins, matching a linear scan.
+     *
+     * @param cars the loaded cars
+     * @return a map from registration number to car
+     */
+    private static Map<String, Car> indexByRegNumber(List<Car> cars) {
+        Map<String, Car> index = new HashMap<>(Math.max(16, (int) (cars.size() / 0.75f) + 1));
+        for (Car car : cars) {
+            index.putIfAbsent(car.getRegNumber(), car);
+        }
+        return index;
+    }
+
+    /**
+     * Loads cars from a CSV file and constructs {@link Car} objects.
      * <p>
      * Expected CSV format: regNumber,brand,price,isElectric,model
      * </p>
+     * Parsing is done by {@link CarCsvParser}, which streams the file bytes
+     * without per-line regex splitting. Large files are memory-mapped and parsed
+     * in parallel chunks by {@link ParallelCarCsvLoader}.
      *
-     * @return a list of cars parsed from the file; empty if the file is missing or invalid
+     * @param filePath path of the car CSV file
+     * @return a list of cars parsed from the file; empty if the file is missing
      * @throws IllegalStateException if the file cannot be read
      */
-    private List<Car> loadCarsFromFile() {
-        List<Car> list = new ArrayList<>();
-        File file = new File(CAR_FILE_PATH);
+    private List<Car> loadCarsFromFile(String filePath) {
+        File file = new File(filePath);
 
         if (!file.exists()) {
-            System.err.println("⚠️ cars.csv not found at " + CAR_FILE_PATH);
-            return list;
+            System.err.println("⚠️ " + file.getName() + " not found at " + filePath);
+            return new ArrayList<>();
         }
 
-        try (Scanner scanner = new Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                String[] split = scanner.nextLine().split(",");
-                if (split.length < 5) continue;
-
-                String regNumber = split[0];
-                Brand brand = Brand.valueOf(split[1]);
-                BigDecimal price = new BigDecimal(split[2]);
-                boolean isElectric = Boolean.parseBoolean(split[3]);
-                String model = split[4];
-
-                list.add(new Car(regNumber, price, brand, isElectric, model));
-            }
+        try {
+            long startNanos = System.nanoTime();
+            List<Car> loaded = ParallelCarCsvLoader.load(file.toPath());
+            loadNanos = System.nanoTime() - startNanos;
+            return loaded;
         } catch (IOException e) {
-            throw new IllegalStateException("❌ Failed to read cars.csv", e);
+            throw new IllegalStateException("❌ Failed to read " + file.getName(), e);
         }
-
-        return list;
     }
 }
@@ -1,5 +1,8 @@
 package student.model.Car;
 
+import student.model.utils.CarKeywordIndex;
+import student.model.utils.CarPriceIndex;
+
 import java.util.List;
 
 /**
@@ -16,4 +19,51 @@ public interface CarRepository {
      * @return a list of {@link Car} objects
      */
     List<Car> getAllCars();
+
+    /**
+     * Finds a car by its registration number.
+     * <p>
+     * The default implementation scans {@link #getAllCars()}. Implementations
+     * backed by a fixed fleet should override it with a constant-time lookup.
+     * </p>
+     *
+     * @param regNumber the registration number to look up
+     * @return the matching {@link Car}, or {@code null} if not found
+     */
+    default Car findByRegNumber(String regNumber) {
+        for (Car car : getAllCars()) {
+            if (car.getRegNumber().equals(regNumber)) {
+                return car;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the cached index of all cars ordered by rental price.
+     * <p>
+     * The default implementation keeps no index and returns {@code null}, in which case
+     * callers scan {@link #getAllCars()} instead. Implementations backed by a fixed fleet
+     * should build the index once and return it.
+     * </p>
+     *
+     * @return the price index of all cars, or {@code null} if the repository keeps none
+     */
+    default CarPriceIndex getPriceIndex() {
+        return null;
+    }
+
+    /**
+     * Returns the cached substring index over the brand, model and registration number of all cars.
+     * <p>
+     * The default implementation keeps no index and returns {@code null}, in which case
+     * callers scan {@link #getAllCars()} instead. Implementations backed by a fixed fleet
+     * should build the index once and return it.
+     * </p>
+     *
+     * @return the keyword index of all cars, or {@code null} if the repository keeps none
+     */
+    default CarKeywordIndex getKeywordIndex() {
+        return null;
+    }
 }
@@ -2,11 +2,17 @@
 package student.model.Car;
 
 import student.model.utils.CarFilterEngine;
+import student.model.utils.CarKeywordIndex;
+import student.model.utils.CarPriceIndex;
+import student.model.utils.CarQuery;
+import student.model.utils.IncrementalCarSearch;
+import student.model.utils.PageSource;
 
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +30,11 @@ public class CarService {
      */
     private final CarRepository carRepository;
 
+    /**
+     * Search-as-you-type state over the repository's current keyword index.
+     */
+    private volatile IncrementalCarSearch incrementalSearch;
+
     /**
      * Constructs a {@code CarService} with the given car repository.
      *
@@ -49,11 +60,21 @@ public class CarService {
      * @throws IllegalStateException if not found.
      */
     public Car getCar(String regNumber) {
-        return getAllCars().stream()
-                .filter(car -> regNumber.equals(car.getRegNumber()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException(
-                        String.format("Car with reg %s not found", regNumber)));
+        Car car = findCar(regNumber);
+        if (car == null) {
+            throw new IllegalStateException(String.format("Car with reg %s not found", regNumber));
+        }
+        return car;
+    }
+
+    /**
+     * Looks up a car by its registration number via the repository index.
+     *
+     * @param regNumber The registration number of the car.
+     * @return The matching car, or {@code null} if not found.
+     */
+    public Car findCar(String regNumber) {
+        return carRepository.findByRegNumber(regNumber);
     }
 
     /**
@@ -69,31 +90,125 @@ public class CarService {
 
     /**
      * Returns all cars sorted by rental price in ascending order.
+     * The order comes from the repository's price index if it keeps one, so no sort runs per call.
      *
-     * @return a sorted list of cars
+     * @return a sorted list of cars, unmodifiable if it comes from the index
      */
     public List<Car> sortCarsByPrice() {
-        return CarFilterEngine.sortByPrice(getAllCars());
+        CarPriceIndex index = carRepository.getPriceIndex();
+        return index != null ? CarFilterEngine.sortByPrice(index) : CarFilterEngine.sortByPrice(getAllCars());
     }
 
     /**
-     * Filters cars whose rental price is within a specified range.
+     * Returns the {@code k} cheapest cars that satisfy a filter, in ascending price order.
+     * Walks the repository's price index and stops after {@code k} matches, without sorting;
+     * without a cached index, keeps the best {@code k} of one scan in a bounded heap.
+     *
+     * @param k      the maximum number of cars to return
+     * @param filter the condition cars must satisfy
+     * @return up to {@code k} matching cars
+     */
+    public List<Car> cheapestCars(int k, Predicate<? super Car> filter) {
+        CarPriceIndex index = carRepository.getPriceIndex();
+        return index != null ? index.cheapest(k, filter) : CarFilterEngine.cheapest(getAllCars(), k, filter);
+    }
+
+    /**
+     * Returns the {@code k} most expensive cars that satisfy a filter, in descending price order.
+     * Walks the repository's price index and stops after {@code k} matches, without sorting;
+     * without a cached index, keeps the best {@code k} of one scan in a bounded heap.
+     *
+     * @param k      the maximum number of cars to return
+     * @param filter the condition cars must satisfy
+     * @return up to {@code k} matching cars
+     */
+    public List<Car> mostExpensiveCars(int k, Predicate<? super Car> filter) {
+        CarPriceIndex index = carRepository.getPriceIndex();
+        return index != null ? index.mostExpensive(k, filter) : CarFilterEngine.mostExpensive(getAllCars(), k, filter);
+    }
+
+    /**
+     * Filters cars whose rental price is within a specified range, in ascending price order.
+     * Uses the repository's price index if it keeps one; otherwise scans all cars and sorts
+     * only the matches.
      *
      * @param min the minimum price (inclusive)
      * @param max the maximum price (inclusive)
-     * @return a list of cars within the specified price range
+     * @return a list of cars within the specified price range, unmodifiable if it comes from the index
      */
     public List<Car> getCarsByPriceRange(BigDecimal min, BigDecimal max) {
-        return CarFilterEngine.filterByPriceRange(getAllCars(), min, max);
+        CarPriceIndex index = carRepository.getPriceIndex();
+        if (index != null) return CarFilterEngine.filterByPriceRange(index, min, max);
+        List<Car> matches = CarFilterEngine.filterByPriceRange(getAllCars(), min, max);
+        matches.sort(Comparator.comparing(Car::getRentalPrice));
+        return matches;
     }
 
     /**
      * Searches for cars using a keyword that matches brand, model, or registration number.
+     * Uses the repository's keyword index if it keeps one instead of scanning every car.
      *
      * @param keyword the keyword to search with
      * @return a list of matching cars
      */
     public List<Car> searchCars(String keyword) {
-        return CarFilterEngine.searchByKeyword(getAllCars(), keyword);
+        CarKeywordIndex index = carRepository.getKeywordIndex();
+        return index != null
+                ? CarFilterEngine.searchByKeyword(index, keyword)
+                : CarFilterEngine.searchByKeyword(getAllCars(), keyword);
+    }
+
+    /**
+     * Searches like {@link #searchCars(String)}, for keywords typed one character at a time.
+     * Matches of recent keywords are cached, and a keyword that extends one of them only
+     * re-checks its matches instead of the whole fleet. The cache lives on the repository's
+     * cached keyword index; a repository without one is scanned per keyword instead.
+     *
+     * @param keyword the keyword to search with
+     * @return a list of matching cars
+     */
+    public List<Car> searchCarsIncremental(String keyword) {
+        CarKeywordIndex index = carRepository.getKeywordIndex();
+        if (index == null) return CarFilterEngine.searchByKeyword(getAllCars(), keyword);
+        IncrementalCarSearch search = incrementalSearch;
+        if (search == null || search.getIndex() != index) {
+            search = new IncrementalCarSearch(index);
+            incrementalSearch = search;
+        }
+        return search.search(keyword);
+    }
+
+    /**
+     * Runs a multi-criteria query over all cars, using the repository's price and keyword indexes.
+     *
+     * @param query the query to run
+     * @return the matching cars after the query's offset and limit
+     */
+    public List<Car> findCars(CarQuery query) {
+        return query.run(getAllCars(), carRepository.getPriceIndex(), carRepository.getKeywordIndex());
+    }
+
+    /**
+     * Counts all cars matching a multi-criteria query, ignoring its offset and limit.
+     *
+     * @param query the query to count
+     * @return the number of matching cars
+     */
+    public int countCars(CarQuery query) {
+        return query.count(getAllCars(), carRepository.getPriceIndex(), carRepository.getKeywordIndex());
+    }
+
+    /**
+     * Pages through the results of a multi-criteria query without building the whole result.
+     * The repository's indexes are looked up and the query is planned once, when the source
+     * is created; each fetch then only collects the page's matches, and the total is counted
+     * once without collecting them. The query's own offset and limit are ignored, and later
+     * changes to the query do not affect the source.
+     *
+     * @param query the query to page through
+     * @return a source fetching one page of matching cars at a time
+     */
+    public PageSource<Car> pageCars(CarQuery query) {
+        return query.pages(getAllCars(), carRepository.getPriceIndex(), carRepository.getKeywordIndex());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package student.model.Car;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Loads large car CSV files by memory-mapping them and parsing line-aligned
+ * chunks in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The file is split into chunks of roughly equal size; each chunk boundary is moved
+ * forward to just after the next {@code '\n'}, so every line belongs to exactly one
+ * chunk. Each chunk is mapped read-only and parsed by its own {@link CarCsvParser},
+ * and the per-chunk results are concatenated in file order. The resulting list is
+ * therefore identical to parsing the whole file sequentially.
+ * </p>
+ *
+ * <p>Files smaller than {@link #PARALLEL_THRESHOLD_BYTES}, or runs on a pool with a
+ * parallelism of one, are parsed sequentially from a stream.</p>
+ */
+public final class ParallelCarCsvLoader {
+
+    /**
+     * Minimum file size in bytes for which parallel loading is used.
+     */
+    public static final long PARALLEL_THRESHOLD_BYTES = 8L << 20;
+
+    /**
+     * Upper bound for a single chunk, well below the 2 GB mapping limit.
+     */
+    private static final long MAX_CHUNK_BYTES = 64L << 20;
+
+    /**
+     * Chunks created per worker thread, so uneven chunks still balance out.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelCarCsvLoader() {
+    }
+
+    /**
+     * Loads all cars from the file using the common fork-join pool.
+     *
+     * @param file the car CSV file
+     * @return the cars in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<Car> load(Path file) throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        long size = Files.size(file);
+        if (size < PARALLEL_THRESHOLD_BYTES || pool.getParallelism() < 2) {
+            List<Car> cars = new ArrayList<>();
+            try (InputStream in = Files.newInputStream(file)) {
+                new CarCsvParser().parse(in, cars::add);
+            }
+            return cars;
+        }
+        long chunkSize = Math.min(MAX_CHUNK_BYTES,
+                Math.max(1, size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD)));
+        return load(file, pool, chunkSize);
+    }
+
+    /**
+     * Loads all cars from the file in chunks of about {@code chunkSize} bytes on the given pool.
+     *
+     * @param file      the car CSV file
+     * @param pool      the pool to parse on
+     * @param chunkSize the nominal chunk size in bytes
+     * @return the cars in file order
+     * @throws IOException if the file cannot be read
+     */
+    static List<Car> load(Path file, ForkJoinPool pool, long chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<ChunkTask> tasks = new ArrayList<>();
+            long size = channel.size();
+            long start = 0;
+            while (start < size) {
+                long end = lineEndAfter(channel, Math.min(size, start + Math.min(chunkSize, MAX_CHUNK_BYTES)));
+                tasks.add(new ChunkTask(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)));
+                start = end;
+            }
+
+            List<List<Car>> chunks = pool.invoke(new RecursiveTask<>() {
+                @Override
+                protected List<List<Car>> compute() {
+                    List<List<Car>> results = new ArrayList<>(tasks.size());
+                    for (ChunkTask task : ForkJoinTask.invokeAll(tasks)) {
+                        results.add(task.join());
+                    }
+                    return results;
+                }
+            });
+
+            int total = 0;
+            for (List<Car> chunk : chunks) total += chunk.size();
+            List<Car> cars = new ArrayList<>(total);
+            for (List<Car> chunk : chunks) cars.addAll(chunk);
+            return cars;
+        }
+    }
+
+    /**
+     * Returns the position just after the first {@code '\n'} at or after {@code position},
+     * or the file size if there is none.
+     *
+     * @param channel  the file channel
+     * @param position the nominal chunk end
+     * @return the line-aligned chunk end
+     * @throws IOException if the file cannot be read
+     */
+    private static long lineEndAfter(FileChannel channel, long position) throws IOException {
+        long size = channel.size();
+        ByteBuffer window = ByteBuffer.allocate(4096);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Parses one mapped chunk.
+     */
+    private static final class ChunkTask extends RecursiveTask<List<Car>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient MappedByteBuffer chunk;
+
+        ChunkTask(MappedByteBuffer chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected List<Car> compute() {
+            List<Car> cars = new ArrayList<>();
+            try {
+                new CarCsvParser().parse(new ByteBufferInputStream(chunk), cars::add);
+            } catch (IOException e) {
+                throw new IllegalStateException("❌ Failed to parse car data chunk", e);
+            }
+            return cars;
+        }
+    }
+
+    /**
+     * Minimal {@link InputStream} over a {@link ByteBuffer}, used to feed mapped
+     * chunks into {@link CarCsvParser} with bulk copies.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
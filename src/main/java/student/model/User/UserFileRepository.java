@@ -9,6 +9,12 @@ import java.util.*;
  * This class manages persistent user storage using a CSV file located at {@code data/users.csv}.
  * Each user record is stored in the format: {@code UUID,name}.
  * </p>
+ *
+ * <p>The file is parsed once, on first access, into a list plus an index by ID and
+ * an index by case-folded name, so lookups and logins are constant-time. New users
+ * are written through to the file and added to the indexes. Unless disabled, each
+ * access compares the file's size and modification time with the loaded state and
+ * reloads it after outside edits.</p>
  */
 public class UserFileRepository implements UserRepository {
 
@@ -18,70 +24,184 @@ public class UserFileRepository implements UserRepository {
     private static final String USER_FILE_PATH = "data/users.csv";
 
     /**
-     * Reads all users from the CSV file.
-     *
-     * @return a list of {@link User} objects loaded from the file; empty list if file not found
-     * @throws IllegalStateException if the file cannot be read
+     * Path of the user data CSV file.
      */
-    @Override
-    public List<User> getUsers() {
-        List<User> users = new ArrayList<>();
-        File file = new File(USER_FILE_PATH);
+    private final String filePath;
 
-        if (!file.exists()) return users;
+    /**
+     * Whether outside changes to the file are detected and reloaded.
+     */
+    private final boolean reloadOnChange;
 
-        try (Scanner scanner = new Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                String[] split = scanner.nextLine().split(",");
-                if (split.length >= 2) {
-                    users.add(new User(UUID.fromString(split[0]), split[1]));
-                }
-            }
-        } catch (IOException e) {
-            throw new IllegalStateException("❌ Failed to read users.csv", e);
-        }
+    /**
+     * Users in file order; {@code null} until first loaded.
+     */
+    private List<User> users;
+
+    /**
+     * Index of {@link #users} by ID.
+     */
+    private Map<UUID, User> usersById;
+
+    /**
+     * Index of {@link #users} by case-folded name; the first user with a name wins.
+     */
+    private Map<String, User> usersByName;
+
+    /**
+     * Modification time of the file when it was last loaded or written.
+     */
+    private long loadedLastModified;
+
+    /**
+     * Length of the file when it was last loaded or written.
+     */
+    private long loadedLength;
+
+    /**
+     * Constructs a repository for {@code data/users.csv} that reloads after outside edits.
+     */
+    public UserFileRepository() {
+        this(USER_FILE_PATH, true);
+    }
 
-        return users;
+    /**
+     * Constructs a repository for the given file. The file is not read until first accessed.
+     *
+     * @param filePath       path of the user data CSV file
+     * @param reloadOnChange whether to reload the file when it is changed by someone else
+     */
+    public UserFileRepository(String filePath, boolean reloadOnChange) {
+        this.filePath = filePath;
+        this.reloadOnChange = reloadOnChange;
     }
 
     /**
-     * Appends a new user to the CSV file.
+     * Returns all users loaded from the CSV file.
+     *
+     * @return an unmodifiable snapshot of the {@link User} objects, unaffected by later changes;
+     * empty if the file is not found
+     * @throws IllegalStateException if the file cannot be read
+     */
+    @Override
+    public synchronized List<User> getUsers() {
+        ensureLoaded();
+        return List.copyOf(users);
+    }
+
+    /**
+     * Appends a new user to the CSV file and to the in-memory indexes.
      *
      * @param user the {@link User} to be saved
      * @throws IllegalStateException if the file cannot be written
      */
     @Override
-    public void addUser(User user) {
-        try (FileWriter writer = new FileWriter(USER_FILE_PATH, true)) {
+    public synchronized void addUser(User user) {
+        ensureLoaded();
+        try (FileWriter writer = new FileWriter(filePath, true)) {
             writer.write(user.getId() + "," + user.getName() + "\n");
         } catch (IOException e) {
             throw new IllegalStateException("❌ Failed to write user to users.csv", e);
         }
+        index(user);
+        rememberFileState(new File(filePath));
     }
 
     /**
-     * Searches for a user in the file by their UUID.
+     * Looks up a user by UUID in the in-memory index.
      *
      * @param id the UUID to search for
      * @return the matching {@link User}, or {@code null} if not found
      */
     @Override
-    public User getUserById(UUID id) {
-        return getUsers().stream()
-                .filter(user -> user.getId().equals(id))
-                .findFirst().orElse(null);
+    public synchronized User getUserById(UUID id) {
+        ensureLoaded();
+        return usersById.get(id);
     }
 
     /**
-     * Searches for a user in the file by their name (case-insensitive).
+     * Looks up a user by name (case-insensitive) in the in-memory index.
      *
      * @param name the username to search
      * @return the matching {@link User}, or {@code null} if not found
      */
     @Override
-    public User findUserByName(String name) {
-        return getUsers().stream()
-                .filter(user -> user.getName().equalsIgnoreCase(name))
-                .findFirst().orElse(null);
+    public synchronized User findUserByName(String name) {
+        ensureLoaded();
+        return usersByName.get(foldCase(name));
+    }
+
+    /**
+     * Loads the file if it has not been loaded yet, or if reloading is enabled
+     * and its size or modification time changed since it was last seen.
+     */
+    private void ensureLoaded() {
+        File file = new File(filePath);
+        if (users != null && (!reloadOnChange
+                || (file.lastModified() == loadedLastModified && file.length() == loadedLength))) {
+            return;
+        }
+        load(file);
+    }
+
+    /**
+     * Reads all users from the CSV file and rebuilds the indexes.
+     *
+     * @param file the user data file
+     * @throws IllegalStateException if the file cannot be read
+     */
+    private void load(File file) {
+        users = new ArrayList<>();
+        usersById = new HashMap<>();
+        usersByName = new HashMap<>();
+        rememberFileState(file);
+
+        if (!file.exists()) return;
+
+        boolean complete = false;
+        try (Scanner scanner = new Scanner(file)) {
+            while (scanner.hasNextLine()) {
+                String[] split = scanner.nextLine().split(",");
+                if (split.length >= 2) {
+                    index(new User(UUID.fromString(split[0]), split[1]));
+                }
+            }
+            complete = true;
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Failed to read users.csv", e);
+        } finally {
+            if (!complete) users = null;
+        }
+    }
+
+    /**
+     * Adds a user to the list and both indexes.
+     *
+     * @param user the user to add
+     */
+    private void index(User user) {
+        users.add(user);
+        usersById.putIfAbsent(user.getId(), user);
+        usersByName.putIfAbsent(foldCase(user.getName()), user);
+    }
+
+    /**
+     * Records the file's current size and modification time as the known state.
+     *
+     * @param file the user data file
+     */
+    private void rememberFileState(File file) {
+        loadedLastModified = file.lastModified();
+        loadedLength = file.length();
+    }
+
+    /**
+     * Folds a name so that names equal under {@link String#equalsIgnoreCase(String)} share a key.
+     *
+     * @param name the name
+     * @return the case-folded key
+     */
+    private static String foldCase(String name) {
+        return name.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
     }
 }
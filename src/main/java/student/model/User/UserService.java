@@ -28,18 +28,13 @@ public class UserService {
     }
 
     /**
-     * Retrieves a user by their unique ID.
+     * Retrieves a user by their unique ID via the repository lookup.
      *
      * @param id the ID of the user
      * @return the user with the specified ID, or {@code null} if not found
      */
     public User getUserById(UUID id) {
-        for (User user : getUsers()) {
-            if (user.getId().equals(id)) {
-                return user;
-            }
-        }
-        return null;
+        return userRepository.getUserById(id);
     }
 
     /**
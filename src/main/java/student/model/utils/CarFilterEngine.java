@@ -3,9 +3,13 @@ package student.model.utils;
 import student.model.Car.Car;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -25,10 +29,86 @@ public class CarFilterEngine {
      */
     public static List<Car> sortByPrice(List<Car> cars) {
         return cars.stream()
-                .sorted(Comparator.comparing(Car::getRentalPricePerDay))
+                .sorted(Comparator.comparing(Car::getRentalPrice))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the cars of a price index in ascending price order.
+     * The index is already sorted, so no sorting happens per call.
+     *
+     * @param index the price index to read from
+     * @return an unmodifiable list sorted by rental price
+     */
+    public static List<Car> sortByPrice(CarPriceIndex index) {
+        return index.sortedByPrice();
+    }
+
+    /**
+     * Returns the {@code k} cheapest cars of a list that satisfy a filter, in ascending price order.
+     * Keeps a bounded heap of the best {@code k} candidates, costing O(n log k) instead of a full sort.
+     *
+     * @param cars   the list of cars to search
+     * @param k      the maximum number of cars to return
+     * @param filter the condition cars must satisfy
+     * @return up to {@code k} matching cars; ties keep their original order
+     */
+    public static List<Car> cheapest(List<Car> cars, int k, Predicate<? super Car> filter) {
+        return topK(cars, k, filter, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the {@code k} most expensive cars of a list that satisfy a filter, in descending price order.
+     * Keeps a bounded heap of the best {@code k} candidates, costing O(n log k) instead of a full sort.
+     *
+     * @param cars   the list of cars to search
+     * @param k      the maximum number of cars to return
+     * @param filter the condition cars must satisfy
+     * @return up to {@code k} matching cars; ties keep their original order
+     */
+    public static List<Car> mostExpensive(List<Car> cars, int k, Predicate<? super Car> filter) {
+        return topK(cars, k, filter, Comparator.reverseOrder());
+    }
+
+    /**
+     * Returns the {@code k} cars first in the given price order, breaking ties by list position.
+     *
+     * @param cars       the list of cars to search
+     * @param k          the maximum number of cars to return
+     * @param filter     the condition cars must satisfy
+     * @param priceOrder the order of prices to return
+     * @return up to {@code k} matching cars in that order
+     */
+    private static List<Car> topK(List<Car> cars, int k, Predicate<? super Car> filter,
+                                  Comparator<Money> priceOrder) {
+        if (k <= 0) return new ArrayList<>();
+        Comparator<Map.Entry<Integer, Car>> order = Comparator
+                .comparing((Map.Entry<Integer, Car> e) -> e.getValue().getRentalPrice(), priceOrder)
+                .thenComparing(Map.Entry::getKey);
+        PriorityQueue<Map.Entry<Integer, Car>> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, order.reversed());
+
+        int position = 0;
+        for (Car car : cars) {
+            if (heap.size() < k) {
+                if (filter.test(car)) heap.add(Map.entry(position, car));
+            } else if (priceOrder.compare(car.getRentalPrice(), heap.peek().getValue().getRentalPrice()) < 0
+                    && filter.test(car)) {
+                // A later car with an equal price never replaces an earlier one
+                heap.poll();
+                heap.add(Map.entry(position, car));
+            }
+            position++;
+        }
+
+        List<Map.Entry<Integer, Car>> best = new ArrayList<>(heap);
+        best.sort(order);
+        List<Car> result = new ArrayList<>(best.size());
+        for (Map.Entry<Integer, Car> entry : best) {
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
     /**
      * Filters a list of cars by a given rental price range.
      *
@@ -39,13 +119,40 @@ public class CarFilterEngine {
      */
     public static List<Car> filterByPriceRange(List<Car> cars, BigDecimal min, BigDecimal max) {
         return cars.stream()
-                .filter(car -> {
-                    BigDecimal price = car.getRentalPricePerDay();
-                    return price.compareTo(min) >= 0 && price.compareTo(max) <= 0;
-                })
+                .filter(priceBetween(min, max))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns a filter accepting cars whose rental price is within a range.
+     * The bounds are converted to {@link Money} once, so each car is checked with
+     * {@code long} comparisons.
+     *
+     * @param min the minimum price (inclusive)
+     * @param max the maximum price (inclusive)
+     * @return the price filter
+     */
+    static Predicate<Car> priceBetween(BigDecimal min, BigDecimal max) {
+        Money low = Money.of(min);
+        Money high = Money.of(max);
+        return car -> {
+            Money price = car.getRentalPrice();
+            return price.compareTo(low) >= 0 && price.compareTo(high) <= 0;
+        };
+    }
+
+    /**
+     * Filters the cars of a price index by a given rental price range using binary search.
+     *
+     * @param index the price index to query
+     * @param min   the minimum price (inclusive)
+     * @param max   the maximum price (inclusive)
+     * @return an unmodifiable list of cars within the range, in ascending price order
+     */
+    public static List<Car> filterByPriceRange(CarPriceIndex index, BigDecimal min, BigDecimal max) {
+        return index.inRange(min, max);
+    }
+
     /**
      * Searches for cars matching a keyword in brand, registration number, or model.
      * The search is case-insensitive.
@@ -63,4 +170,17 @@ public class CarFilterEngine {
                                 || car.getModel().toLowerCase().contains(lower))
                 .toList();
     }
+
+    /**
+     * Searches a keyword index for cars matching a keyword in brand, registration
+     * number, or model. Returns the same cars, in the same order, as
+     * {@link #searchByKeyword(List, String)} on the indexed list.
+     *
+     * @param index   the keyword index to query
+     * @param keyword the search keyword
+     * @return a list of matching cars
+     */
+    public static List<Car> searchByKeyword(CarKeywordIndex index, String keyword) {
+        return index.search(keyword);
+    }
 }
@@ -0,0 +1,379 @@
+package student.model.utils;
+
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Substring index over the brand, model and registration number of a fleet.
+ * <p>
+ * The index is built once and answers the same case-insensitive "contains"
+ * queries as {@link CarFilterEngine#searchByKeyword(List, String)}, returning
+ * the matching cars in their original order:
+ * </p>
+ * <ul>
+ *   <li>Brands and models have few distinct values, so each distinct lowercased
+ *       value is matched once and expanded through its posting list.</li>
+ *   <li>Registration numbers are unique per car, so they are indexed by trigram.
+ *       A query intersects the posting lists of its trigrams and verifies only
+ *       the remaining candidates. Keywords shorter than three characters scan
+ *       the pre-lowercased registration numbers instead, skipping those that lack
+ *       one of the keyword's characters through a per-car character mask.</li>
+ * </ul>
+ * No strings are created per car while querying; all lowercasing happens at build time.
+ */
+public class CarKeywordIndex {
+
+    /** Indexed cars in their original order. */
+    private final Car[] cars;
+
+    /** Unmodifiable view over {@link #cars}, returned for empty keywords. */
+    private final List<Car> allCars;
+
+    /** Lowercased brand names, by brand ordinal. */
+    private final String[] brandNames;
+
+    /** Car positions per brand ordinal, ascending. */
+    private final int[][] carsByBrand;
+
+    /** Distinct lowercased model names. */
+    private final String[] modelNames;
+
+    /** Car positions per entry of {@link #modelNames}, ascending. */
+    private final int[][] carsByModel;
+
+    /** Brand ordinal, by car position. */
+    private final int[] brandOf;
+
+    /** Index into {@link #modelNames}, by car position. */
+    private final int[] modelOf;
+
+    /** Lowercased registration numbers, by car position. */
+    private final String[] regNumbers;
+
+    /** Characters present in each registration number, by car position; see {@link #charMask(String)}. */
+    private final long[] regMasks;
+
+    /** Car positions per registration number trigram, ascending. */
+    private final Map<Long, int[]> carsByRegTrigram;
+
+    /**
+     * Builds a keyword index over the given cars.
+     *
+     * @param cars the cars to index
+     */
+    public CarKeywordIndex(List<Car> cars) {
+        this.cars = cars.toArray(new Car[0]);
+        this.allCars = Collections.unmodifiableList(Arrays.asList(this.cars));
+        this.regNumbers = new String[this.cars.length];
+        this.brandOf = new int[this.cars.length];
+        this.modelOf = new int[this.cars.length];
+        this.regMasks = new long[this.cars.length];
+
+        Brand[] brands = Brand.values();
+        this.brandNames = new String[brands.length];
+        for (Brand brand : brands) {
+            brandNames[brand.ordinal()] = brand.name().toLowerCase(Locale.ROOT);
+        }
+
+        Postings[] brandPostings = new Postings[brands.length];
+        Map<String, Postings> modelPostings = new LinkedHashMap<>();
+        Map<Long, Postings> trigramPostings = new HashMap<>();
+
+        for (int i = 0; i < this.cars.length; i++) {
+            Car car = this.cars[i];
+
+            int brand = car.getBrand().ordinal();
+            if (brandPostings[brand] == null) brandPostings[brand] = new Postings();
+            brandPostings[brand].add(i);
+            brandOf[i] = brand;
+
+            modelPostings.computeIfAbsent(car.getModel().toLowerCase(Locale.ROOT), m -> new Postings()).add(i);
+
+            String reg = car.getRegNumber().toLowerCase(Locale.ROOT);
+            regNumbers[i] = reg;
+            regMasks[i] = charMask(reg);
+            for (int pos = 0; pos + 3 <= reg.length(); pos++) {
+                trigramPostings.computeIfAbsent(trigram(reg, pos), t -> new Postings()).add(i);
+            }
+        }
+
+        this.carsByBrand = new int[brands.length][];
+        for (int b = 0; b < brands.length; b++) {
+            carsByBrand[b] = brandPostings[b] == null ? new int[0] : brandPostings[b].toArray();
+        }
+
+        this.modelNames = modelPostings.keySet().toArray(new String[0]);
+        this.carsByModel = new int[modelNames.length][];
+        for (int m = 0; m < modelNames.length; m++) {
+            carsByModel[m] = modelPostings.get(modelNames[m]).toArray();
+            for (int position : carsByModel[m]) {
+                modelOf[position] = m;
+            }
+        }
+
+        this.carsByRegTrigram = new HashMap<>(Math.max(16, (int) (trigramPostings.size() / 0.75f) + 1));
+        for (Map.Entry<Long, Postings> entry : trigramPostings.entrySet()) {
+            carsByRegTrigram.put(entry.getKey(), entry.getValue().toArray());
+        }
+    }
+
+    /**
+     * Returns all cars whose brand, registration number or model contains the keyword,
+     * ignoring case, in their original order.
+     *
+     * @param keyword the search keyword
+     * @return a list of matching cars
+     */
+    public List<Car> search(String keyword) {
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        if (lower.isEmpty()) return allCars;
+        return carsAt(match(lower));
+    }
+
+    /**
+     * Returns the positions of all cars matching a lowercased, non-empty keyword.
+     *
+     * @param lower the lowercased keyword
+     * @return matching car positions, ascending
+     */
+    int[] match(String lower) {
+        BitSet matches = new BitSet(cars.length);
+        for (int b = 0; b < brandNames.length; b++) {
+            if (brandNames[b].contains(lower)) mark(matches, carsByBrand[b]);
+        }
+        for (int m = 0; m < modelNames.length; m++) {
+            if (modelNames[m].contains(lower)) mark(matches, carsByModel[m]);
+        }
+        matchRegNumbers(lower, matches);
+
+        int[] positions = new int[matches.cardinality()];
+        int size = 0;
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            positions[size++] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the candidates that match a lowercased keyword, checking only those
+     * candidates. Brand and model names are matched once per distinct value.
+     *
+     * @param candidates car positions to check, ascending
+     * @param lower      the lowercased keyword
+     * @return the matching candidates, ascending
+     */
+    int[] refine(int[] candidates, String lower) {
+        boolean[] brandMatches = new boolean[brandNames.length];
+        for (int b = 0; b < brandNames.length; b++) {
+            brandMatches[b] = brandNames[b].contains(lower);
+        }
+        boolean[] modelMatches = new boolean[modelNames.length];
+        for (int m = 0; m < modelNames.length; m++) {
+            modelMatches[m] = modelNames[m].contains(lower);
+        }
+
+        long mask = charMask(lower);
+        int[] result = new int[candidates.length];
+        int size = 0;
+        for (int i : candidates) {
+            if (brandMatches[brandOf[i]] || modelMatches[modelOf[i]]
+                    || regContains(i, lower, mask)) {
+                result[size++] = i;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns a read-only view of the cars at the given positions, without copying them.
+     *
+     * @param positions car positions, ascending; must not be modified afterwards
+     * @return a list of the cars, in position order
+     */
+    List<Car> carsAt(int[] positions) {
+        return new CarsAt(cars, positions);
+    }
+
+    /**
+     * Returns the number of indexed cars.
+     *
+     * @return the index size
+     */
+    public int size() {
+        return cars.length;
+    }
+
+    /**
+     * Marks the cars whose registration number contains the lowercased keyword.
+     *
+     * @param lower   the lowercased keyword
+     * @param matches the set of matching car positions to add to
+     */
+    private void matchRegNumbers(String lower, BitSet matches) {
+        if (lower.length() < 3) {
+            long mask = charMask(lower);
+            for (int i = 0; i < regNumbers.length; i++) {
+                if (regContains(i, lower, mask)) matches.set(i);
+            }
+            return;
+        }
+
+        int[] candidates = null;
+        int count = 0;
+        for (int pos = 0; pos + 3 <= lower.length(); pos++) {
+            int[] postings = carsByRegTrigram.get(trigram(lower, pos));
+            if (postings == null) return;
+            if (candidates == null) {
+                candidates = Arrays.copyOf(postings, postings.length);
+                count = postings.length;
+            } else {
+                count = intersect(candidates, count, postings);
+            }
+            if (count == 0) return;
+        }
+
+        for (int c = 0; c < count; c++) {
+            int i = candidates[c];
+            if (regNumbers[i].contains(lower)) matches.set(i);
+        }
+    }
+
+    /**
+     * Returns whether the registration number at a position contains the keyword,
+     * skipping the string comparison when a character of the keyword is missing.
+     *
+     * @param position the car position
+     * @param lower    the lowercased keyword
+     * @param mask     the {@link #charMask(String)} of the keyword
+     * @return {@code true} if the registration number contains the keyword
+     */
+    private boolean regContains(int position, String lower, long mask) {
+        return (regMasks[position] & mask) == mask && regNumbers[position].contains(lower);
+    }
+
+    /**
+     * Returns a bit set of the characters in a text: one bit per lowercase letter and
+     * digit, and shared bits for all other characters. A text can only contain a keyword
+     * if its mask includes all bits of the keyword's mask.
+     *
+     * @param text the lowercased text
+     * @return the character mask
+     */
+    static long charMask(String text) {
+        long mask = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int bit;
+            if (c >= 'a' && c <= 'z') {
+                bit = c - 'a';
+            } else if (c >= '0' && c <= '9') {
+                bit = 26 + c - '0';
+            } else {
+                bit = 36 + c % 28;
+            }
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Intersects the first {@code count} entries of {@code target} with {@code other} in place.
+     *
+     * @param target sorted positions, overwritten with the intersection
+     * @param count  number of valid entries in {@code target}
+     * @param other  sorted positions to intersect with
+     * @return the number of entries in the intersection
+     */
+    private static int intersect(int[] target, int count, int[] other) {
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.length) {
+            if (target[i] < other[j]) {
+                i++;
+            } else if (target[i] > other[j]) {
+                j++;
+            } else {
+                target[size++] = target[i];
+                i++;
+                j++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Sets the bits for the given car positions.
+     *
+     * @param matches   the set to update
+     * @param positions car positions
+     */
+    private static void mark(BitSet matches, int[] positions) {
+        for (int position : positions) {
+            matches.set(position);
+        }
+    }
+
+    /**
+     * Packs the three characters starting at {@code pos} into a single key.
+     *
+     * @param text the lowercased text
+     * @param pos  the start position
+     * @return the trigram key
+     */
+    private static long trigram(String text, int pos) {
+        return ((long) text.charAt(pos) << 32) | ((long) text.charAt(pos + 1) << 16) | text.charAt(pos + 2);
+    }
+
+    /**
+     * Read-only list of the indexed cars at a set of positions.
+     */
+    private static final class CarsAt extends AbstractList<Car> implements RandomAccess {
+        private final Car[] cars;
+        private final int[] positions;
+
+        CarsAt(Car[] cars, int[] positions) {
+            this.cars = cars;
+            this.positions = positions;
+        }
+
+        @Override
+        public Car get(int index) {
+            return cars[positions[index]];
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+
+    /**
+     * Growable, ascending list of car positions used while building the index.
+     */
+    private static final class Postings {
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size > 0 && positions[size - 1] == position) return;
+            if (size == positions.length) positions = Arrays.copyOf(positions, size * 2);
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
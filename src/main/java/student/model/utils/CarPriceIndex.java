@@ -0,0 +1,255 @@
+package student.model.utils;
+
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Read-only index of cars ordered by rental price.
+ * <p>
+ * The index sorts the fleet once and keeps the prices as scaled {@code long}
+ * values (e.g., cents) in a parallel array. Price-sorted listings are returned
+ * without sorting again, and price range queries use binary search, costing
+ * O(log n) plus the size of the returned view.
+ * </p>
+ *
+ * <p>The scale is the largest number of fractional digits among the indexed
+ * prices, so the scaled values compare exactly like the original {@link BigDecimal}s.
+ * If a price does not fit in a {@code long} at that scale (e.g., {@code 1000.00} next to
+ * a price with 17 or more decimals), the index compares the cars' {@link Money} prices instead.</p>
+ */
+public class CarPriceIndex {
+
+    /**
+     * Cars sorted by rental price in ascending order. Cars with equal prices
+     * keep their original relative order.
+     */
+    private final Car[] carsByPrice;
+
+    /**
+     * Rental prices of {@link #carsByPrice}, multiplied by {@code 10^scale},
+     * or {@code null} if some price does not fit in a {@code long} at that scale.
+     */
+    private final long[] scaledPrices;
+
+    /**
+     * Number of fractional digits kept in {@link #scaledPrices}.
+     */
+    private final int scale;
+
+    /**
+     * Unmodifiable list view over {@link #carsByPrice}.
+     */
+    private final List<Car> sortedView;
+
+    /**
+     * Builds a price index over the given cars.
+     *
+     * @param cars the cars to index
+     */
+    public CarPriceIndex(List<Car> cars) {
+        this.carsByPrice = cars.toArray(new Car[0]);
+        Arrays.sort(carsByPrice, Comparator.comparing(Car::getRentalPrice));
+
+        int maxScale = 0;
+        for (Car car : carsByPrice) {
+            maxScale = Math.max(maxScale, car.getRentalPrice().getScale());
+        }
+        this.scale = maxScale;
+
+        long[] scaled = new long[carsByPrice.length];
+        try {
+            for (int i = 0; i < carsByPrice.length; i++) {
+                scaled[i] = carsByPrice[i].getRentalPrice().toUnits(scale);
+            }
+        } catch (ArithmeticException e) {
+            scaled = null;
+        }
+        this.scaledPrices = scaled;
+        this.sortedView = Collections.unmodifiableList(Arrays.asList(carsByPrice));
+    }
+
+    /**
+     * Returns all indexed cars in ascending price order.
+     *
+     * @return an unmodifiable, already sorted list view
+     */
+    public List<Car> sortedByPrice() {
+        return sortedView;
+    }
+
+    /**
+     * Returns the cars whose rental price lies within the given range, in ascending price order.
+     *
+     * @param min the minimum price (inclusive)
+     * @param max the maximum price (inclusive)
+     * @return an unmodifiable list view of the matching cars
+     */
+    public List<Car> inRange(BigDecimal min, BigDecimal max) {
+        if (scaledPrices == null) {
+            Money low = Money.of(min);
+            Money high = Money.of(max);
+            if (low.compareTo(high) > 0) return Collections.emptyList();
+            int from = lowerBound(low);
+            return sortedView.subList(from, Math.max(from, upperBound(high)));
+        }
+
+        long low = toScaled(min, RoundingMode.CEILING);
+        long high = toScaled(max, RoundingMode.FLOOR);
+        if (low > high) return Collections.emptyList();
+
+        int from = lowerBound(low);
+        int to = upperBound(high);
+        return sortedView.subList(from, Math.max(from, to));
+    }
+
+    /**
+     * Returns the {@code k} cheapest cars satisfying a filter, in ascending price order.
+     * Walks the index from the cheapest car and stops after {@code k} matches, so no sort runs
+     * and the cost depends on {@code k} and the filter's selectivity rather than the fleet size.
+     *
+     * @param k      the maximum number of cars to return
+     * @param filter the condition cars must satisfy
+     * @return up to {@code k} matching cars; ties keep their original order
+     */
+    public List<Car> cheapest(int k, Predicate<? super Car> filter) {
+        List<Car> result = new ArrayList<>(Math.max(0, Math.min(k, carsByPrice.length)));
+        for (int i = 0; i < carsByPrice.length && result.size() < k; i++) {
+            if (filter.test(carsByPrice[i])) result.add(carsByPrice[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code k} most expensive cars satisfying a filter, in descending price order.
+     * Walks the index from the most expensive car and stops after {@code k} matches.
+     *
+     * @param k      the maximum number of cars to return
+     * @param filter the condition cars must satisfy
+     * @return up to {@code k} matching cars; ties keep their original order
+     */
+    public List<Car> mostExpensive(int k, Predicate<? super Car> filter) {
+        List<Car> result = new ArrayList<>(Math.max(0, Math.min(k, carsByPrice.length)));
+        int end = carsByPrice.length;
+        while (end > 0 && result.size() < k) {
+            int start = scaledPrices != null
+                    ? lowerBound(scaledPrices[end - 1])
+                    : lowerBound(carsByPrice[end - 1].getRentalPrice());
+            for (int i = start; i < end && result.size() < k; i++) {
+                if (filter.test(carsByPrice[i])) result.add(carsByPrice[i]);
+            }
+            end = start;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed cars.
+     *
+     * @return the index size
+     */
+    public int size() {
+        return carsByPrice.length;
+    }
+
+    /**
+     * Converts a price bound to the index scale, clamping values outside the {@code long} range.
+     *
+     * @param value the bound to convert
+     * @param mode  rounding applied to digits beyond the index scale
+     * @return the scaled bound
+     */
+    private long toScaled(BigDecimal value, RoundingMode mode) {
+        BigDecimal scaled = value.setScale(scale, mode).movePointRight(scale);
+        if (scaled.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) >= 0) return Long.MAX_VALUE;
+        if (scaled.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) <= 0) return Long.MIN_VALUE;
+        return scaled.longValueExact();
+    }
+
+    /**
+     * Finds the first position whose price is greater than or equal to the key.
+     *
+     * @param key the scaled price
+     * @return the insertion point
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = scaledPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scaledPrices[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose price is strictly greater than the key.
+     *
+     * @param key the scaled price
+     * @return the insertion point
+     */
+    private int upperBound(long key) {
+        int low = 0;
+        int high = scaledPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scaledPrices[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose price is greater than or equal to the key, comparing {@link Money}.
+     *
+     * @param key the price
+     * @return the insertion point
+     */
+    private int lowerBound(Money key) {
+        int low = 0;
+        int high = carsByPrice.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (carsByPrice[mid].getRentalPrice().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose price is strictly greater than the key, comparing {@link Money}.
+     *
+     * @param key the price
+     * @return the insertion point
+     */
+    private int upperBound(Money key) {
+        int low = 0;
+        int high = carsByPrice.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (carsByPrice[mid].getRentalPrice().compareTo(key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
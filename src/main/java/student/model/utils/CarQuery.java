@@ -0,0 +1,378 @@
+package student.model.utils;
+
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Multi-criteria car query evaluated in a single pass.
+ * <p>
+ * Criteria are combined with "and" and set through chained calls, for example
+ * {@code new CarQuery().brand(Brand.TESLA).electric(true).priceBetween(min, max).limit(18)}.
+ * When the query runs, it:
+ * </p>
+ * <ul>
+ *   <li>starts from the smallest candidate list it can get from an index: the
+ *       {@link CarPriceIndex} range (which is already in price order) or the
+ *       {@link CarKeywordIndex} matches, falling back to the whole fleet;</li>
+ *   <li>checks the remaining criteria per candidate, most selective first, with
+ *       selectivity estimated from the indexes where they exist and custom
+ *       {@link #where(Predicate) conditions} last;</li>
+ *   <li>skips {@link #offset(int) offset} matches and stops as soon as
+ *       {@link #limit(int) limit} matches are collected, unless matches must be
+ *       sorted afterwards.</li>
+ * </ul>
+ *
+ * <p>Results are in fleet order, or in ascending price order (ties in fleet order)
+ * after {@link #sortByPrice()}. A query object is not thread-safe, but may be run
+ * any number of times.</p>
+ */
+public class CarQuery {
+
+    /**
+     * Candidate lists at most this long are filtered directly instead of querying the keyword index.
+     */
+    private static final int KEYWORD_INDEX_THRESHOLD = 1024;
+
+    /**
+     * Assumed share of cars passing a criterion whose selectivity cannot be estimated.
+     */
+    private static final double UNKNOWN_PASS_RATE = 0.5;
+
+    private Set<Brand> brands;
+    private Boolean electric;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private String keyword;
+    private final List<Predicate<? super Car>> conditions = new ArrayList<>();
+    private boolean sortByPrice;
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * Restricts the query to cars of the given brands.
+     *
+     * @param first  a brand to match
+     * @param others further brands to match
+     * @return this query
+     */
+    public CarQuery brand(Brand first, Brand... others) {
+        this.brands = EnumSet.of(first, others);
+        return this;
+    }
+
+    /**
+     * Restricts the query to electric or non-electric cars.
+     *
+     * @param electric {@code true} for electric cars only, {@code false} for gas cars only
+     * @return this query
+     */
+    public CarQuery electric(boolean electric) {
+        this.electric = electric;
+        return this;
+    }
+
+    /**
+     * Restricts the query to a rental price range.
+     *
+     * @param min the minimum price (inclusive)
+     * @param max the maximum price (inclusive)
+     * @return this query
+     */
+    public CarQuery priceBetween(BigDecimal min, BigDecimal max) {
+        this.minPrice = min;
+        this.maxPrice = max;
+        return this;
+    }
+
+    /**
+     * Restricts the query to cars whose brand, registration number or model contains
+     * the keyword, ignoring case, like {@link CarFilterEngine#searchByKeyword(List, String)}.
+     *
+     * @param keyword the search keyword
+     * @return this query
+     */
+    public CarQuery keyword(String keyword) {
+        this.keyword = keyword.toLowerCase(Locale.ROOT);
+        return this;
+    }
+
+    /**
+     * Adds a custom condition, checked after all other criteria.
+     *
+     * @param condition the condition cars must satisfy
+     * @return this query
+     */
+    public CarQuery where(Predicate<? super Car> condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Orders the results by rental price in ascending order.
+     *
+     * @return this query
+     */
+    public CarQuery sortByPrice() {
+        this.sortByPrice = true;
+        return this;
+    }
+
+    /**
+     * Skips the first matches, e.g. the rows of earlier pages.
+     *
+     * @param offset the number of matches to skip
+     * @return this query
+     * @throws IllegalArgumentException if the offset is negative
+     */
+    public CarQuery offset(int offset) {
+        if (offset < 0) throw new IllegalArgumentException("Offset must not be negative");
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Limits the number of results, e.g. to one page.
+     *
+     * @param limit the maximum number of results
+     * @return this query
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public CarQuery limit(int limit) {
+        if (limit < 0) throw new IllegalArgumentException("Limit must not be negative");
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Runs the query over a fleet.
+     *
+     * @param cars         the fleet
+     * @param priceIndex   the price index of the fleet, or {@code null} if there is none
+     * @param keywordIndex the keyword index of the fleet, or {@code null} if there is none
+     * @return the matching cars after offset and limit
+     */
+    public List<Car> run(List<Car> cars, CarPriceIndex priceIndex, CarKeywordIndex keywordIndex) {
+        return run(cars, priceIndex, keywordIndex, offset, limit);
+    }
+
+    /**
+     * Runs the query over a fleet with the given offset and limit instead of the query's own,
+     * so one query can serve several pages without being modified.
+     *
+     * @param cars         the fleet
+     * @param priceIndex   the price index of the fleet, or {@code null} if there is none
+     * @param keywordIndex the keyword index of the fleet, or {@code null} if there is none
+     * @param offset       the number of matches to skip
+     * @param limit        the maximum number of results
+     * @return the matching cars after offset and limit
+     * @throws IllegalArgumentException if the offset or limit is negative
+     */
+    public List<Car> run(List<Car> cars, CarPriceIndex priceIndex, CarKeywordIndex keywordIndex,
+                         int offset, int limit) {
+        if (offset < 0 || limit < 0) throw new IllegalArgumentException("Offset and limit must not be negative");
+        return run(plan(cars, priceIndex, keywordIndex), offset, limit);
+    }
+
+    /**
+     * Counts all cars matching the query, ignoring offset and limit.
+     *
+     * @param cars         the fleet
+     * @param priceIndex   the price index of the fleet, or {@code null} if there is none
+     * @param keywordIndex the keyword index of the fleet, or {@code null} if there is none
+     * @return the number of matching cars
+     */
+    public int count(List<Car> cars, CarPriceIndex priceIndex, CarKeywordIndex keywordIndex) {
+        return count(plan(cars, priceIndex, keywordIndex));
+    }
+
+    /**
+     * Pages through the matches of the query, ignoring its offset and limit. The candidate
+     * list and criteria are chosen once, from the criteria set at this call, and reused by
+     * every page fetch and by the count of the total.
+     *
+     * @param cars         the fleet
+     * @param priceIndex   the price index of the fleet, or {@code null} if there is none
+     * @param keywordIndex the keyword index of the fleet, or {@code null} if there is none
+     * @return a source fetching one page of matching cars at a time
+     */
+    public PageSource<Car> pages(List<Car> cars, CarPriceIndex priceIndex, CarKeywordIndex keywordIndex) {
+        Plan plan = plan(cars, priceIndex, keywordIndex);
+        return PageSource.lazy((offset, limit) -> run(plan, offset, limit), () -> count(plan));
+    }
+
+    /**
+     * Runs a plan, collecting the matches after offset and limit.
+     *
+     * @param plan   the evaluation plan
+     * @param offset the number of matches to skip
+     * @param limit  the maximum number of results
+     * @return the matching cars
+     */
+    private static List<Car> run(Plan plan, int offset, int limit) {
+        List<Car> result = new ArrayList<>(Math.min(limit, 1024));
+        if (limit == 0) return result;
+
+        int skipped = 0;
+        for (Car car : plan.source) {
+            if (!plan.matches(car)) continue;
+            if (plan.sortAfter) {
+                result.add(car);
+            } else if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(car);
+                if (result.size() == limit) break;
+            }
+        }
+        if (!plan.sortAfter) return result;
+
+        result.sort(Comparator.comparing(Car::getRentalPrice));
+        int from = Math.min(offset, result.size());
+        int to = (int) Math.min((long) from + limit, result.size());
+        return new ArrayList<>(result.subList(from, to));
+    }
+
+    /**
+     * Counts the matches of a plan.
+     *
+     * @param plan the evaluation plan
+     * @return the number of matching cars
+     */
+    private static int count(Plan plan) {
+        if (plan.criteria.isEmpty()) return plan.source.size();
+
+        int count = 0;
+        for (Car car : plan.source) {
+            if (plan.matches(car)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Chooses the candidate list and orders the remaining criteria by estimated selectivity.
+     *
+     * @param cars         the fleet
+     * @param priceIndex   the price index, or {@code null}
+     * @param keywordIndex the keyword index, or {@code null}
+     * @return the evaluation plan
+     */
+    private Plan plan(List<Car> cars, CarPriceIndex priceIndex, CarKeywordIndex keywordIndex) {
+        boolean hasPrice = minPrice != null;
+        List<Car> source = cars;
+        boolean priceOrdered = false;
+        boolean priceApplied = false;
+        boolean keywordApplied = false;
+        double pricePassRate = UNKNOWN_PASS_RATE;
+        double keywordPassRate = UNKNOWN_PASS_RATE;
+
+        if (priceIndex != null && (hasPrice || sortByPrice)) {
+            List<Car> range = hasPrice ? priceIndex.inRange(minPrice, maxPrice) : priceIndex.sortedByPrice();
+            pricePassRate = rate(range.size(), priceIndex.size());
+            if (sortByPrice || range.isEmpty()) {
+                source = range;
+                priceOrdered = true;
+                priceApplied = hasPrice;
+            }
+        }
+        if (keyword != null && keywordIndex != null && source.size() > KEYWORD_INDEX_THRESHOLD) {
+            List<Car> matches = keywordIndex.search(keyword);
+            keywordPassRate = rate(matches.size(), keywordIndex.size());
+            if (matches.size() < source.size()) {
+                source = matches;
+                priceOrdered = false;
+                priceApplied = false;
+                keywordApplied = true;
+            }
+        }
+
+        List<Criterion> criteria = new ArrayList<>();
+        if (brands != null) {
+            Set<Brand> wanted = brands;
+            criteria.add(new Criterion(car -> wanted.contains(car.getBrand()),
+                    (double) wanted.size() / Brand.values().length));
+        }
+        if (electric != null) {
+            boolean wanted = electric;
+            criteria.add(new Criterion(car -> car.isElectric() == wanted, UNKNOWN_PASS_RATE));
+        }
+        if (hasPrice && !priceApplied) {
+            criteria.add(new Criterion(CarFilterEngine.priceBetween(minPrice, maxPrice), pricePassRate));
+        }
+        if (keyword != null && !keywordApplied) {
+            String lower = keyword;
+            criteria.add(new Criterion(car -> car.getBrand().name().toLowerCase(Locale.ROOT).contains(lower)
+                    || car.getRegNumber().toLowerCase(Locale.ROOT).contains(lower)
+                    || car.getModel().toLowerCase(Locale.ROOT).contains(lower), keywordPassRate));
+        }
+        criteria.sort(Comparator.comparingDouble(criterion -> criterion.passRate));
+
+        List<Predicate<? super Car>> ordered = new ArrayList<>(criteria.size() + conditions.size());
+        for (Criterion criterion : criteria) {
+            ordered.add(criterion.test);
+        }
+        ordered.addAll(conditions);
+        return new Plan(source, sortByPrice && !priceOrdered, ordered);
+    }
+
+    /**
+     * Returns the share of indexed cars matched by an index query.
+     *
+     * @param matches the number of matches
+     * @param size    the number of indexed cars
+     * @return the pass rate between 0 and 1
+     */
+    private static double rate(int matches, int size) {
+        return size == 0 ? 0 : (double) matches / size;
+    }
+
+    /**
+     * A criterion checked per candidate, with the estimated share of cars passing it.
+     */
+    private static final class Criterion {
+        private final Predicate<? super Car> test;
+        private final double passRate;
+
+        Criterion(Predicate<? super Car> test, double passRate) {
+            this.test = test;
+            this.passRate = passRate;
+        }
+    }
+
+    /**
+     * The candidate list of a query run, the criteria left to check in evaluation order,
+     * and whether matches must be sorted by price afterwards.
+     */
+    private static final class Plan {
+        private final List<Car> source;
+        private final boolean sortAfter;
+        private final List<Predicate<? super Car>> criteria;
+
+        Plan(List<Car> source, boolean sortAfter, List<Predicate<? super Car>> criteria) {
+            this.source = source;
+            this.sortAfter = sortAfter;
+            this.criteria = List.copyOf(criteria);
+        }
+
+        /**
+         * Returns whether a candidate satisfies all remaining criteria.
+         *
+         * @param car the candidate
+         * @return {@code true} if the car matches
+         */
+        boolean matches(Car car) {
+            for (int i = 0; i < criteria.size(); i++) {
+                if (!criteria.get(i).test(car)) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package student.model.utils;
+
+import student.model.Booking.CarBooking;
+import student.model.Car.Car;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streaming CSV export of cars, bookings, or any other rows.
+ * <p>
+ * Rows are appended by a {@link RowFormatter} into one reusable, pre-sized
+ * {@link StringBuilder} and written through a large buffered writer, without
+ * {@code String.format} or a temporary string per field. Rows are pulled from an
+ * {@link Iterable} one at a time, so memory use does not grow with the number of
+ * rows. Lines end with {@code '\n'}; fields containing a comma, quote or line
+ * break are quoted.
+ * </p>
+ *
+ * <p>An exporter instance is not thread-safe, but may be reused; after each
+ * export it reports the number of rows written and the throughput.</p>
+ *
+ * @param <T> the row type
+ */
+public class CsvExporter<T> {
+
+    /**
+     * Size of the output buffer in characters.
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Initial capacity of the row builder; enough for typical car and booking rows.
+     */
+    private static final int ROW_CAPACITY = 256;
+
+    /**
+     * Appends the fields of one row to a builder.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    public interface RowFormatter<T> {
+        /**
+         * Appends the fields of a row, separated by commas, without a line break.
+         *
+         * @param row  the builder to append to
+         * @param item the row item
+         */
+        void append(StringBuilder row, T item);
+    }
+
+    private final String header;
+    private final RowFormatter<? super T> formatter;
+    private final StringBuilder row = new StringBuilder(ROW_CAPACITY);
+
+    /**
+     * Number of rows written by the last export, excluding the header.
+     */
+    private long rowsWritten;
+
+    /**
+     * Duration of the last export, in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Constructs an exporter.
+     *
+     * @param header    the header line without a line break, or {@code null} for none
+     * @param formatter appends the fields of each row
+     */
+    public CsvExporter(String header, RowFormatter<? super T> formatter) {
+        this.header = header;
+        this.formatter = formatter;
+    }
+
+    /**
+     * Exporter of available cars with the columns {@code ID,Brand,Price,Type};
+     * prices have two decimals.
+     *
+     * @return a new exporter
+     */
+    public static CsvExporter<Car> availableCars() {
+        return new CsvExporter<>("ID,Brand,Price,Type", (row, car) -> {
+            appendField(row, car.getRegNumber()).append(',')
+                    .append(car.getBrand()).append(',');
+            appendPrice(row, car.getRentalPrice()).append(',')
+                    .append(car.isElectric() ? "Electric" : "Gas");
+        });
+    }
+
+    /**
+     * Exporter of single booking details with the columns
+     * {@code BookingID,UserID,UserName,CarID,Brand,Price,BookingTime}; prices have two decimals.
+     *
+     * @return a new exporter
+     */
+    public static CsvExporter<CarBooking> bookingDetails() {
+        return new CsvExporter<>("BookingID,UserID,UserName,CarID,Brand,Price,BookingTime", (row, booking) -> {
+            row.append(booking.getBookingId()).append(',')
+                    .append(booking.getUser().getId()).append(',');
+            appendField(row, booking.getUser().getName()).append(',');
+            appendField(row, booking.getCar().getRegNumber()).append(',')
+                    .append(booking.getCar().getBrand()).append(',');
+            appendPrice(row, booking.getCar().getRentalPrice()).append(',')
+                    .append(booking.getBookingTime());
+        });
+    }
+
+    /**
+     * Exporter of booking lists with the columns
+     * {@code BookingID,User,Brand,Model,CarReg,Price,Time,Canceled}.
+     *
+     * @return a new exporter
+     */
+    public static CsvExporter<CarBooking> bookings() {
+        return new CsvExporter<>("BookingID,User,Brand,Model,CarReg,Price,Time,Canceled", (row, booking) -> {
+            Car car = booking.getCar();
+            row.append(booking.getBookingId()).append(',');
+            appendField(row, booking.getUser().getName()).append(',')
+                    .append(car.getBrand()).append(',');
+            appendField(row, car.getModel()).append(',');
+            appendField(row, car.getRegNumber()).append(',');
+            car.getRentalPrice().appendTo(row).append(',')
+                    .append(booking.getBookingTime()).append(',')
+                    .append(booking.isCanceled());
+        });
+    }
+
+    /**
+     * Exports rows to a file, replacing its contents.
+     *
+     * @param file the target file
+     * @param rows the rows, iterated once
+     * @return the number of rows written, excluding the header
+     * @throws IOException if the file cannot be written
+     */
+    public long export(Path file, Iterable<? extends T> rows) throws IOException {
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8)) {
+            return export(writer, rows);
+        }
+    }
+
+    /**
+     * Exports rows to a writer through a large buffer. The writer is flushed but not closed.
+     *
+     * @param out  the target writer
+     * @param rows the rows, iterated once
+     * @return the number of rows written, excluding the header
+     * @throws IOException if the writer fails
+     */
+    public long export(Writer out, Iterable<? extends T> rows) throws IOException {
+        long start = System.nanoTime();
+        long count = 0;
+        BufferedWriter writer = new BufferedWriter(out, BUFFER_SIZE);
+        if (header != null) {
+            writer.write(header);
+            writer.write('\n');
+        }
+        for (T item : rows) {
+            row.setLength(0);
+            formatter.append(row, item);
+            row.append('\n');
+            writer.append(row);
+            count++;
+        }
+        writer.flush();
+
+        rowsWritten = count;
+        elapsedNanos = System.nanoTime() - start;
+        return count;
+    }
+
+    /**
+     * Returns the number of rows written by the last export, excluding the header.
+     *
+     * @return the row count
+     */
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Returns the throughput of the last export in rows per second.
+     *
+     * @return rows per second, or {@code 0} if nothing has been exported yet
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowsWritten * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Appends a text field, quoting it if it contains a comma, quote or line break.
+     *
+     * @param row   the builder
+     * @param value the field value
+     * @return the builder
+     */
+    public static StringBuilder appendField(StringBuilder row, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) return row.append(value);
+
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') row.append('"');
+            row.append(c);
+        }
+        return row.append('"');
+    }
+
+    /**
+     * Appends a price with exactly two decimals, rounded half up like {@code %.2f}.
+     *
+     * @param row   the builder
+     * @param price the price
+     * @return the builder
+     */
+    public static StringBuilder appendPrice(StringBuilder row, BigDecimal price) {
+        return row.append(price.setScale(2, RoundingMode.HALF_UP).toPlainString());
+    }
+
+    /**
+     * Appends a price with exactly two decimals, rounded half up like {@code %.2f},
+     * without allocating.
+     *
+     * @param row   the builder
+     * @param price the price
+     * @return the builder
+     */
+    public static StringBuilder appendPrice(StringBuilder row, Money price) {
+        return price.appendTo(row, 2);
+    }
+}
@@ -0,0 +1,115 @@
+package student.model.utils;
+
+import student.model.Car.Car;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Search-as-you-type over a {@link CarKeywordIndex} that refines earlier results.
+ * <p>
+ * The matches of the most recent keywords are kept in a small LRU cache. Every car
+ * matching a keyword also matches each substring of it, so when a new keyword
+ * contains a cached one (typically because the user typed another character),
+ * only the cached matches are checked instead of the whole fleet, as long as they
+ * are a small part of it. Repeated keywords, such as after deleting a character,
+ * are answered from the cache.
+ * </p>
+ *
+ * <p>Results are the same, in the same order, as {@link CarKeywordIndex#search(String)}.
+ * Instances are thread-safe.</p>
+ */
+public class IncrementalCarSearch {
+
+    /**
+     * Default number of keywords whose matches are cached.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 16;
+
+    /**
+     * Cached matches are refined only if they cover less than {@code 1 / REFINE_DIVISOR}
+     * of the fleet; larger sets are slower to re-check than a fresh index query.
+     */
+    private static final int REFINE_DIVISOR = 4;
+
+    private final CarKeywordIndex index;
+
+    /**
+     * Matching car positions by lowercased keyword, least recently used first.
+     */
+    private final Map<String, int[]> cache;
+
+    /**
+     * Constructs an incremental search with the default cache size.
+     *
+     * @param index the keyword index to search
+     */
+    public IncrementalCarSearch(CarKeywordIndex index) {
+        this(index, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs an incremental search.
+     *
+     * @param index     the keyword index to search
+     * @param cacheSize the number of keywords whose matches are cached
+     */
+    public IncrementalCarSearch(CarKeywordIndex index, int cacheSize) {
+        this.index = index;
+        this.cache = new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns all cars whose brand, registration number or model contains the keyword,
+     * ignoring case, in their original order.
+     *
+     * @param keyword the search keyword
+     * @return a list of matching cars
+     */
+    public synchronized List<Car> search(String keyword) {
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        if (lower.isEmpty()) return index.search(lower);
+
+        int[] matches = cache.get(lower);
+        if (matches == null) {
+            int[] candidates = narrowestCachedMatches(lower);
+            matches = candidates != null && candidates.length < index.size() / REFINE_DIVISOR
+                    ? index.refine(candidates, lower)
+                    : index.match(lower);
+            cache.put(lower, matches);
+        }
+        return index.carsAt(matches);
+    }
+
+    /**
+     * Returns the index this search runs on.
+     *
+     * @return the keyword index
+     */
+    public CarKeywordIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the smallest cached match set of a keyword contained in the given one.
+     *
+     * @param lower the lowercased keyword
+     * @return car positions that include all matches of {@code lower}, or {@code null} if none are cached
+     */
+    private int[] narrowestCachedMatches(String lower) {
+        int[] narrowest = null;
+        for (Map.Entry<String, int[]> entry : cache.entrySet()) {
+            if (lower.contains(entry.getKey()) && (narrowest == null || entry.getValue().length < narrowest.length)) {
+                narrowest = entry.getValue();
+            }
+        }
+        return narrowest;
+    }
+}
@@ -0,0 +1,66 @@
+package student.model.utils;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link PageSource} fetching each page on demand and counting the total once.
+ * Instances are thread-safe if the fetcher and counter are.
+ *
+ * @param <T> the row type
+ */
+final class LazyPageSource<T> implements PageSource<T> {
+
+    private final RangeFetcher<T> rows;
+    private final IntSupplier total;
+
+    /**
+     * The counted total, or {@code -1} before the first fetch.
+     */
+    private volatile int totalCount = -1;
+
+    /**
+     * Constructs a lazy page source.
+     *
+     * @param rows  fetches the rows of a page
+     * @param total counts all rows
+     */
+    LazyPageSource(RangeFetcher<T> rows, IntSupplier total) {
+        this.rows = rows;
+        this.total = total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<T> fetch(int pageIndex, int pageSize) {
+        if (pageIndex < 0) throw new IllegalArgumentException("Page index must not be negative");
+        if (pageSize <= 0) throw new IllegalArgumentException("Page size must be positive");
+
+        int count = totalCount();
+        int lastPage = count == 0 ? 0 : (count - 1) / pageSize;
+        int index = Math.min(pageIndex, lastPage);
+        List<T> items = count == 0 ? List.of() : rows.fetch(index * pageSize, pageSize);
+        return new Page<>(items, index, pageSize, count);
+    }
+
+    /**
+     * Returns the total row count, counting it on the first call.
+     *
+     * @return the total row count
+     */
+    private int totalCount() {
+        int count = totalCount;
+        if (count < 0) {
+            synchronized (this) {
+                count = totalCount;
+                if (count < 0) {
+                    count = total.getAsInt();
+                    totalCount = count;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,303 @@
+package student.model.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Fixed-point amount of money: a {@code long} number of units of {@code 10^-scale}
+ * and a currency. Prices with two decimals are stored in cents.
+ * <p>
+ * Comparing and formatting use {@code long} arithmetic only, without allocating.
+ * An amount keeps the scale it was created with, so {@link #toBigDecimal()} returns
+ * exactly the {@link BigDecimal} it was made from, and equality is scale-sensitive
+ * like {@link BigDecimal#equals(Object)}. The rare amounts whose unscaled value does
+ * not fit in a {@code long} are kept as a {@link BigDecimal} and handled with it.
+ * </p>
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Currency of amounts created without one.
+     */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    /**
+     * Powers of ten that fit in a {@code long}, by exponent.
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long units;
+    private final int scale;
+    private final Currency currency;
+
+    /**
+     * The amount if its unscaled value does not fit in a {@code long}, otherwise {@code null}.
+     */
+    private final BigDecimal outOfRange;
+
+    /**
+     * Constructs an amount of {@code units * 10^-scale}.
+     *
+     * @param units    the unscaled amount, e.g. cents for a scale of 2
+     * @param scale    the number of decimals
+     * @param currency the currency
+     */
+    public Money(long units, int scale, Currency currency) {
+        this(units, scale, currency, null);
+    }
+
+    /**
+     * Constructs an amount, keeping a decimal for amounts that do not fit in a {@code long}.
+     *
+     * @param units      the unscaled amount, unused if {@code outOfRange} is set
+     * @param scale      the number of decimals
+     * @param currency   the currency
+     * @param outOfRange the amount if it does not fit in a {@code long}, otherwise {@code null}
+     */
+    private Money(long units, int scale, Currency currency, BigDecimal outOfRange) {
+        this.units = units;
+        this.scale = scale;
+        this.currency = Objects.requireNonNull(currency, "currency");
+        this.outOfRange = outOfRange;
+    }
+
+    /**
+     * Converts a decimal amount in the {@link #DEFAULT_CURRENCY}, keeping its scale.
+     *
+     * @param amount the amount
+     * @return the amount as money
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Converts a decimal amount, keeping its scale.
+     *
+     * @param amount   the amount
+     * @param currency the currency
+     * @return the amount as money
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        if (amount.unscaledValue().bitLength() > 63) return new Money(0, amount.scale(), currency, amount);
+        return new Money(amount.unscaledValue().longValue(), amount.scale(), currency, null);
+    }
+
+    /**
+     * Returns the unscaled amount.
+     *
+     * @return the amount in units of {@code 10^-scale}
+     * @throws ArithmeticException if the unscaled amount does not fit in a {@code long}
+     */
+    public long getUnits() {
+        if (outOfRange != null) throw new ArithmeticException("Amount does not fit in a long: " + outOfRange);
+        return units;
+    }
+
+    /**
+     * Returns the number of decimals of the amount.
+     *
+     * @return the scale
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns the currency of the amount.
+     *
+     * @return the currency
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Returns the amount as a decimal with the same value and scale.
+     *
+     * @return the amount
+     */
+    public BigDecimal toBigDecimal() {
+        return outOfRange != null ? outOfRange : BigDecimal.valueOf(units, scale);
+    }
+
+    /**
+     * Returns the unscaled amount at another scale.
+     *
+     * @param targetScale the scale to convert to
+     * @return the amount in units of {@code 10^-targetScale}
+     * @throws ArithmeticException if the conversion would round or overflow
+     */
+    public long toUnits(int targetScale) {
+        if (outOfRange != null) {
+            return outOfRange.setScale(targetScale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        }
+        if (targetScale == scale || units == 0) return units;
+        if (targetScale > scale) {
+            if (targetScale - scale >= POWERS_OF_TEN.length) throw new ArithmeticException("Overflow");
+            return Math.multiplyExact(units, POWERS_OF_TEN[targetScale - scale]);
+        }
+        if (scale - targetScale >= POWERS_OF_TEN.length) throw new ArithmeticException("Rounding necessary");
+        long divisor = POWERS_OF_TEN[scale - targetScale];
+        if (units % divisor != 0) throw new ArithmeticException("Rounding necessary");
+        return units / divisor;
+    }
+
+    /**
+     * Compares amounts numerically, ignoring their scales, like {@link BigDecimal#compareTo(BigDecimal)}.
+     *
+     * @param other the amount to compare with
+     * @return a negative number, zero or a positive number if this amount is less than,
+     * equal to or greater than the other
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    @Override
+    public int compareTo(Money other) {
+        if (currency != other.currency && !currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot compare " + currency + " with " + other.currency);
+        }
+        if (outOfRange != null || other.outOfRange != null) return toBigDecimal().compareTo(other.toBigDecimal());
+        if (scale == other.scale) return Long.compare(units, other.units);
+        return scale < other.scale
+                ? compareRescaled(units, other.scale - scale, other.units)
+                : -compareRescaled(other.units, scale - other.scale, units);
+    }
+
+    /**
+     * Compares {@code a * 10^shift} with {@code b} without overflowing.
+     *
+     * @param a     the value to rescale
+     * @param shift the number of decimal digits to shift {@code a} left by
+     * @param b     the value to compare with
+     * @return the comparison result
+     */
+    private static int compareRescaled(long a, int shift, long b) {
+        if (a == 0) return -Long.signum(b);
+        if (shift >= POWERS_OF_TEN.length) return Long.signum(a);
+        long power = POWERS_OF_TEN[shift];
+        long low = a * power;
+        if (Math.multiplyHigh(a, power) != (low >> 63)) return Long.signum(a);
+        return Long.compare(low, b);
+    }
+
+    /**
+     * Appends the amount without exponent and with all its decimals,
+     * like {@link BigDecimal#toPlainString()}.
+     *
+     * @param out the builder
+     * @return the builder
+     */
+    public StringBuilder appendTo(StringBuilder out) {
+        return appendTo(out, Math.max(scale, 0));
+    }
+
+    /**
+     * Appends the amount with a fixed number of decimals, rounded half up like
+     * {@code setScale(decimals, RoundingMode.HALF_UP).toPlainString()}.
+     *
+     * @param out      the builder
+     * @param decimals the number of decimals to show
+     * @return the builder
+     */
+    public StringBuilder appendTo(StringBuilder out, int decimals) {
+        if (decimals < 0 || decimals >= POWERS_OF_TEN.length || units == Long.MIN_VALUE || outOfRange != null) {
+            return out.append(toBigDecimal().setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+        }
+
+        long magnitude = Math.abs(units);
+        int fractionDigits = scale;
+        if (scale > decimals) {
+            magnitude = roundHalfUp(magnitude, scale - decimals);
+            fractionDigits = decimals;
+        }
+        if (units < 0 && magnitude != 0) out.append('-');
+
+        if (fractionDigits <= 0) {
+            out.append(magnitude);
+            for (int i = fractionDigits; i < 0; i++) out.append('0');
+            fractionDigits = 0;
+        } else {
+            long divisor = POWERS_OF_TEN[fractionDigits];
+            out.append(magnitude / divisor);
+            if (decimals > 0) out.append('.');
+            appendPadded(out, magnitude % divisor, fractionDigits);
+        }
+        if (fractionDigits == 0 && decimals > 0) out.append('.');
+        for (int i = fractionDigits; i < decimals; i++) out.append('0');
+        return out;
+    }
+
+    /**
+     * Drops decimal digits from a non-negative value, rounding half up.
+     *
+     * @param magnitude the value
+     * @param digits    the number of digits to drop
+     * @return the rounded value
+     */
+    private static long roundHalfUp(long magnitude, int digits) {
+        if (digits >= POWERS_OF_TEN.length) {
+            return digits == POWERS_OF_TEN.length && magnitude >= 5 * POWERS_OF_TEN[POWERS_OF_TEN.length - 1] ? 1 : 0;
+        }
+        long divisor = POWERS_OF_TEN[digits];
+        long quotient = magnitude / divisor;
+        return magnitude % divisor >= (divisor + 1) / 2 ? quotient + 1 : quotient;
+    }
+
+    /**
+     * Appends a non-negative value with leading zeros up to a number of digits.
+     *
+     * @param out    the builder
+     * @param value  the value, less than {@code 10^digits}
+     * @param digits the number of digits to write
+     */
+    private static void appendPadded(StringBuilder out, long value, int digits) {
+        for (int i = digits - 1; i > 0 && value < POWERS_OF_TEN[i]; i--) {
+            out.append('0');
+        }
+        out.append(value);
+    }
+
+    /**
+     * Compares amounts for equality of value, scale and currency.
+     *
+     * @param o the object to compare
+     * @return {@code true} if the objects are equal, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        Money money = (Money) o;
+        return units == money.units && scale == money.scale && currency.equals(money.currency)
+                && Objects.equals(outOfRange, money.outOfRange);
+    }
+
+    /**
+     * Computes the hash code based on value, scale and currency.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(units, scale, currency, outOfRange);
+    }
+
+    /**
+     * Returns the amount without exponent, like {@link BigDecimal#toPlainString()}.
+     *
+     * @return the amount as text
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24)).toString();
+    }
+}
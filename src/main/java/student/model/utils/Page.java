@@ -0,0 +1,97 @@
+package student.model.utils;
+
+import java.util.List;
+
+/**
+ * One page of a paged result, together with the total number of results.
+ *
+ * @param <T> the row type
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final int pageIndex;
+    private final int pageSize;
+    private final int totalCount;
+
+    /**
+     * Constructs a page.
+     *
+     * @param items      the rows on this page
+     * @param pageIndex  the index of this page (0-based)
+     * @param pageSize   the maximum number of rows per page
+     * @param totalCount the number of rows on all pages together
+     * @throws IllegalArgumentException if the page index is negative or the page size is not positive
+     */
+    public Page(List<T> items, int pageIndex, int pageSize, int totalCount) {
+        if (pageIndex < 0) throw new IllegalArgumentException("Page index must not be negative");
+        if (pageSize <= 0) throw new IllegalArgumentException("Page size must be positive");
+        this.items = items;
+        this.pageIndex = pageIndex;
+        this.pageSize = pageSize;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the rows on this page.
+     *
+     * @return at most {@link #getPageSize()} rows
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the index of this page.
+     *
+     * @return the page index (0-based)
+     */
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    /**
+     * Returns the maximum number of rows per page.
+     *
+     * @return the page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the number of rows on all pages together.
+     *
+     * @return the total row count
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of pages needed for all rows.
+     *
+     * @return the page count, {@code 0} if there are no rows
+     */
+    public int getTotalPages() {
+        return (int) (((long) totalCount + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Returns whether there is a page before this one.
+     *
+     * @return {@code true} unless this is the first page
+     */
+    public boolean hasPrevious() {
+        return pageIndex > 0;
+    }
+
+    /**
+     * Returns whether there is a page after this one.
+     *
+     * @return {@code true} unless this is the last page
+     */
+    public boolean hasNext() {
+        return pageIndex + 1 < getTotalPages();
+    }
+}
@@ -0,0 +1,71 @@
+package student.model.utils;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * A result that is fetched one page at a time instead of being built as a whole list.
+ * <p>
+ * Page indexes beyond the last page are clamped to it, so a page that no longer
+ * exists (e.g., after the result shrank) shows the last rows instead of nothing.
+ * </p>
+ *
+ * @param <T> the row type
+ */
+@FunctionalInterface
+public interface PageSource<T> {
+
+    /**
+     * Fetches one page.
+     *
+     * @param pageIndex the index of the page (0-based)
+     * @param pageSize  the maximum number of rows per page
+     * @return the page, with the total row count
+     * @throws IllegalArgumentException if the page index is negative or the page size is not positive
+     */
+    Page<T> fetch(int pageIndex, int pageSize);
+
+    /**
+     * Fetches a range of rows of a result.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    interface RangeFetcher<T> {
+
+        /**
+         * Returns the rows of the result after skipping some.
+         *
+         * @param offset the number of rows to skip
+         * @param limit  the maximum number of rows to return
+         * @return at most {@code limit} rows
+         */
+        List<T> fetch(int offset, int limit);
+    }
+
+    /**
+     * Returns a source paging through an already built list; pages are views of the list.
+     *
+     * @param rows the rows
+     * @param <T>  the row type
+     * @return the page source
+     */
+    static <T> PageSource<T> of(List<T> rows) {
+        return lazy((offset, limit) -> rows.subList(offset, (int) Math.min((long) offset + limit, rows.size())),
+                rows::size);
+    }
+
+    /**
+     * Returns a source that fetches only the rows of the requested page.
+     * The total is counted on the first fetch and kept for later pages, so all
+     * pages of one source report the same total.
+     *
+     * @param rows  fetches the rows of a page
+     * @param total counts all rows
+     * @param <T>   the row type
+     * @return the page source
+     */
+    static <T> PageSource<T> lazy(RangeFetcher<T> rows, IntSupplier total) {
+        return new LazyPageSource<>(rows, total);
+    }
+}
@@ -6,12 +6,13 @@ import student.model.Car.Car;
 import student.model.Car.CarService;
 import student.model.User.User;
 import student.model.User.UserService;
+import student.model.utils.CsvExporter;
 import student.view.CarRentalViewInterface;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Scanner;
@@ -91,9 +92,9 @@ public class CarRentalCLIView implements CarRentalViewInterface {
             if (user == null) {
                 System.out.println("❌ No user found with id " + userId);
             } else {
-                UUID bookingId = bookingService.bookCar(user, regNumber);
+                CarBooking booking = bookingService.bookCar(user, regNumber);
                 System.out.printf("🎉 Successfully booked car [%s] for user [%s]. Booking ID: %s\n",
-                        regNumber, user.getName(), bookingId);
+                        regNumber, user.getName(), booking.getBookingId());
             }
         } catch (Exception e) {
             System.out.println("❌ " + e.getMessage());
@@ -102,7 +103,8 @@ public class CarRentalCLIView implements CarRentalViewInterface {
 
     /**
      * Exports the available cars to a CSV file named "available_cars.csv".
-     * The list of cars is sorted by their registration numbers before exporting.
+     * The cars are exported sorted by their registration numbers, through
+     * {@link CsvExporter#availableCars()}.
      *
      * @param bookingService The booking service used to retrieve available cars.
      */
@@ -113,19 +115,14 @@ public class CarRentalCLIView implements CarRentalViewInterface {
             return;
         }
 
-        cars.sort(Comparator.comparing(Car::getRegNumber));
-        File file = new File("available_cars.csv");
-
-        try (PrintWriter writer = new PrintWriter(file)) {
-            writer.println("ID,Brand,Price,Type");
-            for (Car car : cars) {
-                writer.printf("%s,%s,%.2f,%s%n",
-                        car.getRegNumber(),
-                        car.getBrand(),
-                        car.getRentalPricePerDay(),
-                        car.isElectric() ? "Electric" : "Gas");
-            }
-            System.out.println("✅ Available cars exported to available_cars.csv");
+        List<Car> sorted = new ArrayList<>(cars);
+        sorted.sort(Comparator.comparing(Car::getRegNumber));
+        CsvExporter<Car> exporter = CsvExporter.availableCars();
+
+        try {
+            exporter.export(Path.of("available_cars.csv"), sorted);
+            System.out.printf("✅ Available cars exported to available_cars.csv (%d rows, %.0f rows/s)%n",
+                    exporter.getRowsWritten(), exporter.getRowsPerSecond());
         } catch (IOException e) {
             System.out.println("❌ Failed to export cars: " + e.getMessage());
         }
@@ -138,20 +135,11 @@ public class CarRentalCLIView implements CarRentalViewInterface {
      * @param booking The car booking whose details are to be exported.
      */
     public void exportBookingToCSV(CarBooking booking) {
-        File file = new File("booking_" + booking.getBookingId() + ".csv");
-
-        try (PrintWriter writer = new PrintWriter(file)) {
-            writer.println("BookingID,UserID,UserName,CarID,Brand,Price,BookingTime");
-            writer.printf("%s,%s,%s,%s,%s,%.2f,%s%n",
-                    booking.getBookingId(),
-                    booking.getUser().getId(),
-                    booking.getUser().getName(),
-                    booking.getCar().getRegNumber(),
-                    booking.getCar().getBrand(),
-                    booking.getCar().getRentalPricePerDay(),
-                    booking.getBookingTime());
-
-            System.out.printf("✅ Booking exported to %s%n", file.getName());
+        Path file = Path.of("booking_" + booking.getBookingId() + ".csv");
+
+        try {
+            CsvExporter.bookingDetails().export(file, List.of(booking));
+            System.out.printf("✅ Booking exported to %s%n", file.getFileName());
         } catch (IOException e) {
             System.out.println("❌ Failed to export booking: " + e.getMessage());
         }
@@ -179,10 +167,7 @@ public class CarRentalCLIView implements CarRentalViewInterface {
             if (user == null) {
                 System.out.println("❌ No user found with id " + userId);
             } else {
-                UUID bookingId = bookingService.bookCar(user, regNumber);
-                CarBooking booking = bookingService.getBookings().stream()
-                        .filter(b -> b.getBookingId().equals(bookingId))
-                        .findFirst().orElseThrow();
+                CarBooking booking = bookingService.bookCar(user, regNumber);
 
                 System.out.printf("🎉 Successfully booked car [%s] for user [%s].%n", regNumber, user.getName());
                 exportBookingToCSV(booking);
@@ -8,10 +8,13 @@ import student.model.Car.Car;
 import student.model.Car.CarService;
 import student.model.User.User;
 import student.model.User.UserService;
+import student.model.utils.Page;
+import student.model.utils.PageSource;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -43,8 +46,8 @@ public class CarRentalGUIView extends JFrame {
     /** Table component for displaying cars, users, or bookings. */
     private JTable table;
 
-    /** Backing model for the JTable. */
-    private DefaultTableModel tableModel;
+    /** Backing model for the JTable; reads rows straight from the displayed list. */
+    private ListTableModel tableModel;
 
     /** Status label displayed at the bottom of the GUI. */
     private JLabel statusLabel;
@@ -52,6 +55,9 @@ public class CarRentalGUIView extends JFrame {
     /** Label showing current pagination status (e.g., "Page 1 of 3"). */
     private JLabel pageLabel;
 
+    /** Indeterminate progress bar shown while service queries are running. */
+    private JProgressBar busyBar;
+
     /** Pagination buttons for navigating car pages. */
     private JButton prevPageBtn, nextPageBtn;
 
@@ -70,8 +76,11 @@ public class CarRentalGUIView extends JFrame {
     /** Currently logged-in user (null if not logged in). */
     private User currentUser;
 
-    /** All cars available for pagination display. */
-    private List<Car> pagedCars = List.of();
+    /** Source of the car pages being browsed; pages are fetched from it on demand. */
+    private PageSource<Car> carPages = PageSource.of(List.of());
+
+    /** The car page currently shown, or {@code null} if no cars are shown. */
+    private Page<Car> currentCarPage;
 
     /** Cars currently shown in the table (maybe a page subset). */
     private List<Car> currentDisplayedCars;
@@ -83,7 +92,25 @@ public class CarRentalGUIView extends JFrame {
     private int currentPage = 0;
 
     /** Maximum number of cars displayed per page. */
-    private static final int PAGE_SIZE = 18;
+    public static final int PAGE_SIZE = 18;
+
+    /** Delay after the last keystroke before a search-as-you-type query runs, in milliseconds. */
+    private static final int SEARCH_DEBOUNCE_MS = 150;
+
+    /** Restarted on every keystroke in the search field; runs the search once typing pauses. */
+    private Timer searchDebounce;
+
+    /** Column names of the car table. */
+    private static final String[] CAR_COLUMNS = {"RegNumber", "Brand", "Model", "Price", "Electric"};
+
+    /** Column names of the booking table. */
+    private static final String[] BOOKING_COLUMNS = {"Booking ID", "User", "Car", "Time", "Canceled"};
+
+    /** Column names of the user table. */
+    private static final String[] USER_COLUMNS = {"User ID", "Name"};
+
+    /** Whether a background export is running; the export button then cancels it. */
+    private boolean exportRunning;
 
     /**
      * Constructs the CarRental GUI view and initializes its layout and appearance.
@@ -236,7 +263,7 @@ public class CarRentalGUIView extends JFrame {
         mainPanel.add(cardWrapper, BorderLayout.NORTH);
 
         // Table
-        tableModel = new DefaultTableModel();
+        tableModel = new ListTableModel();
         table = new JTable(tableModel);
         table.setFillsViewportHeight(true);
         table.setRowHeight(26);
@@ -265,9 +292,14 @@ public class CarRentalGUIView extends JFrame {
         pageLabel = new JLabel("Page 1 of 1");
         pageLabel.setForeground(Color.LIGHT_GRAY);
         nextPageBtn = new JButton(">");
+        busyBar = new JProgressBar();
+        busyBar.setIndeterminate(true);
+        busyBar.setPreferredSize(new Dimension(80, 12));
+        busyBar.setVisible(false);
         centerControls.add(prevPageBtn);
         centerControls.add(pageLabel);
         centerControls.add(nextPageBtn);
+        centerControls.add(busyBar);
 
         // Right: Book/Cancel/Export
         JPanel rightControls = new JPanel(new FlowLayout(FlowLayout.RIGHT));
@@ -298,6 +330,7 @@ public class CarRentalGUIView extends JFrame {
         sortBtn.addActionListener(e -> controller.handleSortByPrice());
         filterBtn.addActionListener(e -> controller.handleFilterByPrice());
         searchBtn.addActionListener(e -> {
+            searchDebounce.stop();
             String keyword = searchField.getText().trim();
             if (!keyword.isEmpty()) {
                 controller.handleSearchByKeyword(keyword);
@@ -306,6 +339,7 @@ public class CarRentalGUIView extends JFrame {
             }
         });
         searchField.addActionListener(e -> {
+            searchDebounce.stop();
             String keyword = searchField.getText().trim();
             if (!keyword.isEmpty()) {
                 controller.handleSearchByKeyword(keyword);
@@ -313,7 +347,32 @@ public class CarRentalGUIView extends JFrame {
                 JOptionPane.showMessageDialog(this, "Please enter a keyword to search.");
             }
         });
-        exportBtn.addActionListener(e -> controller.handleExportBookings());
+        searchDebounce = new Timer(SEARCH_DEBOUNCE_MS,
+                e -> controller.handleSearchAsYouType(searchField.getText()));
+        searchDebounce.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchDebounce.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchDebounce.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                // Attribute changes do not affect the keyword
+            }
+        });
+        exportBtn.addActionListener(e -> {
+            if (exportRunning) {
+                controller.handleCancelExport();
+            } else {
+                controller.handleExportBookings();
+            }
+        });
         registerBtn.addActionListener(e -> {
             String name = JOptionPane.showInputDialog(this, "Enter name to register:");
             if (name != null && !name.isBlank()) controller.handleRegisterUser(name.trim());
@@ -357,11 +416,14 @@ public class CarRentalGUIView extends JFrame {
             controller.handleCancelBooking(booking);
         });
         prevPageBtn.addActionListener(e -> {
-            if (currentPage > 0) showCarsPage(currentPage - 1);
+            if (currentCarPage != null && currentCarPage.hasPrevious()) {
+                controller.handleCarPage(carPages, currentPage - 1);
+            }
         });
         nextPageBtn.addActionListener(e -> {
-            int maxPage = (int) Math.ceil((double) pagedCars.size() / PAGE_SIZE) - 1;
-            if (currentPage < maxPage) showCarsPage(currentPage + 1);
+            if (currentCarPage != null && currentCarPage.hasNext()) {
+                controller.handleCarPage(carPages, currentPage + 1);
+            }
         });
     }
 
@@ -383,48 +445,45 @@ public class CarRentalGUIView extends JFrame {
      * @param cars the list of cars to display
      */
     public void showCars(List<Car> cars) {
-        this.pagedCars = cars;
-        showCarsPage(0);
+        PageSource<Car> source = PageSource.of(cars);
+        showCarPage(source, source.fetch(0, PAGE_SIZE));
     }
 
     /**
-     * Displays a specific page of the currently loaded car list.
+     * Displays one page of cars; the previous and next buttons fetch further pages
+     * from the same source through the controller.
      *
-     * @param pageIndex the index of the page to show (0-based)
+     * @param source the source the page was fetched from
+     * @param page   the page to show
      */
-    private void showCarsPage(int pageIndex) {
-        if (pagedCars == null || pagedCars.isEmpty()) {
-            tableModel.setRowCount(0);
+    public void showCarPage(PageSource<Car> source, Page<Car> page) {
+        carPages = source;
+        if (page.getTotalCount() == 0) {
+            currentCarPage = null;
+            tableModel.clear();
             statusLabel.setText("❌ No cars to display.");
             return;
         }
-        currentPage = pageIndex;
-        int start = currentPage * PAGE_SIZE;
-        int end = Math.min(start + PAGE_SIZE, pagedCars.size());
-        List<Car> page = pagedCars.subList(start, end);
+        currentCarPage = page;
+        currentPage = page.getPageIndex();
 
-        currentDisplayedCars = page;
+        currentDisplayedCars = page.getItems();
         currentDisplayedBookings = null;
 
-        tableModel.setRowCount(0);
-        tableModel.setColumnIdentifiers(new String[]{"RegNumber", "Brand", "Model", "Price", "Electric"});
-        for (Car car : page) {
-            tableModel.addRow(new Object[]{
-                    car.getRegNumber(),
-                    car.getBrand(),
-                    car.getModel(),
-                    car.getRentalPricePerDay(),
-                    car.isElectric() ? "Yes" : "No"
-            });
-        }
-        int totalPages = (int) Math.ceil((double) pagedCars.size() / PAGE_SIZE);
-        updatePagination(currentPage, totalPages, pagedCars.size());
+        tableModel.show(CAR_COLUMNS, page.getItems(), (car, column) -> switch (column) {
+            case 0 -> car.getRegNumber();
+            case 1 -> car.getBrand();
+            case 2 -> car.getModel();
+            case 3 -> car.getRentalPrice();
+            default -> car.isElectric() ? "Yes" : "No";
+        });
+        updatePagination(currentPage, page.getTotalPages(), page.getTotalCount());
 
         statusLabel.setText(String.format(
                 "📄 Page %d of %d | Total cars: %d",
                 currentPage + 1,
-                totalPages,
-                pagedCars.size()
+                page.getTotalPages(),
+                page.getTotalCount()
         ));
 
     }
@@ -437,17 +496,13 @@ public class CarRentalGUIView extends JFrame {
     public void showBookings(List<CarBooking> bookings) {
         currentDisplayedBookings = bookings;
         currentDisplayedCars = null;
-        tableModel.setRowCount(0);
-        tableModel.setColumnIdentifiers(new String[]{"Booking ID", "User", "Car", "Time", "Canceled"});
-        for (CarBooking b : bookings) {
-            tableModel.addRow(new Object[]{
-                    b.getBookingId(),
-                    b.getUser().getName(),
-                    b.getCar().getBrand() + " " + b.getCar().getRegNumber(),
-                    b.getBookingTime(),
-                    b.isCanceled() ? "Yes" : "No"
-            });
-        }
+        tableModel.show(BOOKING_COLUMNS, bookings, (b, column) -> switch (column) {
+            case 0 -> b.getBookingId();
+            case 1 -> b.getUser().getName();
+            case 2 -> b.getCar().getBrand() + " " + b.getCar().getRegNumber();
+            case 3 -> b.getBookingTime();
+            default -> b.isCanceled() ? "Yes" : "No";
+        });
         statusLabel.setText("📦 Showing " + bookings.size() + " bookings");
     }
 
@@ -457,11 +512,9 @@ public class CarRentalGUIView extends JFrame {
      * @param users the list of users to display
      */
     public void showUsers(List<User> users) {
-        tableModel.setRowCount(0);
-        tableModel.setColumnIdentifiers(new String[]{"User ID", "Name"});
-        for (User user : users) {
-            tableModel.addRow(new Object[]{user.getId(), user.getName()});
-        }
+        currentDisplayedCars = null;
+        currentDisplayedBookings = null;
+        tableModel.show(USER_COLUMNS, users, (user, column) -> column == 0 ? user.getId() : user.getName());
         statusLabel.setText("👤 Showing " + users.size() + " users");
     }
 
@@ -487,4 +540,24 @@ public class CarRentalGUIView extends JFrame {
     public void setStatus(String message) {
         statusLabel.setText(message);
     }
+
+    /**
+     * Switches the export button between starting and canceling an export.
+     *
+     * @param running whether a background export is running
+     */
+    public void setExportRunning(boolean running) {
+        exportRunning = running;
+        if (exportBtn != null) exportBtn.setText(running ? "Cancel Export" : "Export");
+    }
+
+    /**
+     * Shows or hides the busy indicator and wait cursor while service queries run.
+     *
+     * @param busy whether queries are pending
+     */
+    public void setBusy(boolean busy) {
+        if (busyBar != null) busyBar.setVisible(busy);
+        setCursor(busy ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+    }
 }
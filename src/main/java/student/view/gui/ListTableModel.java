@@ -0,0 +1,118 @@
+package student.view.gui;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+/**
+ * Read-only table model that reads cells straight from a backing {@link List}.
+ * <p>
+ * Unlike {@code DefaultTableModel}, no row data is copied: showing a list only
+ * stores a reference to it and fires a single structure-changed event, and each
+ * cell is computed by a {@link CellReader} when the table paints it. Showing a
+ * list of any size therefore costs the same, and only visible rows are read.
+ * </p>
+ *
+ * <p>The backing list must not change size without another call to
+ * {@link #show(String[], List, CellReader)}.</p>
+ */
+public class ListTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Reads the value of one cell from a row item.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    public interface CellReader<T> {
+        /**
+         * Returns the value shown in a column of the given row.
+         *
+         * @param item   the row item
+         * @param column the column index
+         * @return the cell value
+         */
+        Object valueAt(T item, int column);
+    }
+
+    private String[] columns = new String[0];
+    private List<?> rows = List.of();
+    private CellReader<Object> reader = (item, column) -> null;
+
+    /**
+     * Shows the given rows and columns, replacing the current contents.
+     *
+     * @param columns the column names
+     * @param rows    the backing list, read without copying
+     * @param reader  reads the cells of each row
+     * @param <T>     the row type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void show(String[] columns, List<? extends T> rows, CellReader<? super T> reader) {
+        this.columns = columns;
+        this.rows = rows;
+        this.reader = (CellReader<Object>) reader;
+        fireTableStructureChanged();
+    }
+
+    /**
+     * Removes all rows and columns.
+     */
+    public void clear() {
+        show(new String[0], List.of(), (item, column) -> null);
+    }
+
+    /**
+     * Returns the row item at the given index.
+     *
+     * @param row the row index
+     * @return the backing item
+     */
+    public Object getRow(int row) {
+        return rows.get(row);
+    }
+
+    /**
+     * Returns the size of the backing list.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the column count
+     */
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the name of a column.
+     *
+     * @param column the column index
+     * @return the column name
+     */
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+
+    /**
+     * Reads a cell from the backing list.
+     *
+     * @param row    the row index
+     * @param column the column index
+     * @return the cell value
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        return reader.valueAt(rows.get(row), column);
+    }
+}
@@ -0,0 +1,199 @@
+package student;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import student.model.Booking.CarBookingRepository;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.Car.CarFileRepository;
+import student.model.User.UserFileRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    private final CarBookingRepository bookings = new CarBookingRepository();
+
+    @AfterEach
+    void tearDown() {
+        bookings.clear();
+    }
+
+    @Test
+    void sameSeedShouldProduceIdenticalFiles() throws IOException {
+        new DataGenerator(42).writeCars(dir.resolve("a.csv"), 1000);
+        new DataGenerator(42).writeCars(dir.resolve("b.csv"), 1000);
+        new DataGenerator(43).writeCars(dir.resolve("c.csv"), 1000);
+
+        assertArrayEquals(Files.readAllBytes(dir.resolve("a.csv")), Files.readAllBytes(dir.resolve("b.csv")));
+        assertNotEquals(-1, Files.mismatch(dir.resolve("a.csv"), dir.resolve("c.csv")));
+    }
+
+    @Test
+    void generatedFilesShouldLoadIntoRepositories() throws IOException {
+        DataGenerator generator = new DataGenerator(7);
+        generator.writeCars(dir.resolve("cars.csv"), 500);
+        generator.writeUsers(dir.resolve("users.csv"), 50);
+
+        CarFileRepository cars = new CarFileRepository(dir.resolve("cars.csv").toString());
+        UserFileRepository users = new UserFileRepository(dir.resolve("users.csv").toString(), false);
+
+        assertEquals(500, cars.getAllCars().size());
+        assertEquals(50, users.getUsers().size());
+        assertNotNull(cars.findByRegNumber(String.valueOf(DataGenerator.FIRST_REG_NUMBER + 499)));
+        assertEquals("user7", users.getUserById(generator.user(7).getId()).getName());
+    }
+
+    @Test
+    void shouldRespectBrandWeightsElectricRatioAndPriceRange() {
+        DataGenerator generator = new DataGenerator(1);
+        generator.setBrandWeight(Brand.TESLA, 0);
+        generator.setElectricRatio(0.25);
+        generator.setPriceRange(new BigDecimal("30.00"), new BigDecimal("40.00"));
+
+        List<Car> cars = generator.cars(20_000);
+        long electric = cars.stream().filter(Car::isElectric).count();
+
+        assertTrue(cars.stream().noneMatch(car -> car.getBrand() == Brand.TESLA));
+        assertEquals(0.25, electric / 20_000.0, 0.02);
+        assertTrue(cars.stream().allMatch(car -> car.getRentalPricePerDay().compareTo(new BigDecimal("30.00")) >= 0
+                && car.getRentalPricePerDay().compareTo(new BigDecimal("40.00")) <= 0));
+    }
+
+    @Test
+    void priceSkewShouldFavorCheapCars() {
+        DataGenerator generator = new DataGenerator(1);
+        generator.setPriceSkew(3);
+        BigDecimal middle = new BigDecimal("85.00");
+
+        long cheap = generator.cars(10_000).stream()
+                .filter(car -> car.getRentalPricePerDay().compareTo(middle) < 0).count();
+
+        assertTrue(cheap > 7_000);
+    }
+
+    @Test
+    void bookingEventsShouldNeverDoubleBookAndOnlyCancelActiveBookings() throws IOException {
+        Path events = dir.resolve("events.csv");
+        new DataGenerator(3).writeBookingEvents(events, 5_000, 100, 20);
+
+        Set<String> bookedCars = new HashSet<>();
+        Map<String, String> carByBooking = new HashMap<>();
+        for (String line : Files.readAllLines(events)) {
+            String[] split = line.split(",");
+            if (split[0].equals("BOOK")) {
+                assertTrue(bookedCars.add(split[3]), "car booked twice: " + line);
+                carByBooking.put(split[1], split[3]);
+            } else {
+                String car = carByBooking.remove(split[1]);
+                assertNotNull(car, "cancel of inactive booking: " + line);
+                bookedCars.remove(car);
+            }
+        }
+        assertEquals(5_000, Files.readAllLines(events).size());
+    }
+
+    @Test
+    void bookingEventsShouldReplayIntoRepository() throws IOException {
+        DataGenerator generator = new DataGenerator(9);
+        generator.writeCars(dir.resolve("cars.csv"), 200);
+        generator.writeUsers(dir.resolve("users.csv"), 10);
+        generator.writeBookingEvents(dir.resolve("events.csv"), 1_000, 200, 10);
+
+        int applied = DataGenerator.applyBookingEvents(dir.resolve("events.csv"), bookings,
+                new CarFileRepository(dir.resolve("cars.csv").toString()),
+                new UserFileRepository(dir.resolve("users.csv").toString(), false));
+
+        List<String> lines = Files.readAllLines(dir.resolve("events.csv"));
+        long booked = lines.stream().filter(line -> line.startsWith("BOOK,")).count();
+        long canceled = bookings.getCarBookings().stream().filter(booking -> booking.isCanceled()).count();
+
+        assertEquals(1_000, applied);
+        assertEquals(booked, bookings.getCarBookings().size());
+        assertEquals(lines.size() - booked, canceled);
+    }
+
+    @Test
+    void mainShouldWriteFiles() throws IOException {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            DataGenerator.main(new String[]{"out=" + dir, "cars=100", "users=10", "events=50",
+                    "brandWeights=KIA:1", "electricRatio=0"});
+        } finally {
+            System.setOut(original);
+        }
+
+        List<String> cars = Files.readAllLines(dir.resolve("cars.csv"));
+        assertEquals(100, cars.size());
+        assertTrue(cars.stream().allMatch(line -> line.contains(",KIA,") && line.contains(",false,")));
+        assertEquals(10, Files.readAllLines(dir.resolve("users.csv")).size());
+        assertEquals(50, Files.readAllLines(dir.resolve("booking_events.csv")).size());
+    }
+
+    @Test
+    void mainShouldParseBrandWeightsUnderTurkishLocale() throws IOException {
+        PrintStream original = System.out;
+        Locale locale = Locale.getDefault();
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            DataGenerator.main(new String[]{"out=" + dir, "cars=20", "users=5", "events=10",
+                    "brandWeights=kia:1", "electricRatio=0"});
+        } finally {
+            Locale.setDefault(locale);
+            System.setOut(original);
+        }
+
+        List<String> cars = Files.readAllLines(dir.resolve("cars.csv"));
+        assertTrue(cars.stream().allMatch(line -> line.contains(",KIA,")));
+    }
+
+    @Test
+    void mainShouldNotOverwriteWithoutForce() throws IOException {
+        Files.writeString(dir.resolve("cars.csv"), "keep\n");
+        String[] args = {"out=" + dir, "cars=5", "users=2"};
+
+        assertThrows(IllegalStateException.class, () -> DataGenerator.main(args));
+        assertEquals(List.of("keep"), Files.readAllLines(dir.resolve("cars.csv")));
+        assertFalse(Files.exists(dir.resolve("users.csv")));
+
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            DataGenerator.main(new String[]{"out=" + dir, "cars=5", "users=2", "force=true"});
+        } finally {
+            System.setOut(original);
+        }
+        assertEquals(5, Files.readAllLines(dir.resolve("cars.csv")).size());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        DataGenerator generator = new DataGenerator(1);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.setElectricRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.setPriceSkew(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.setPriceRange(BigDecimal.TEN, BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class, () -> generator.setBrandWeight(Brand.KIA, -1));
+        assertThrows(IllegalArgumentException.class, () -> DataGenerator.main(new String[]{"colour=red"}));
+    }
+}
@@ -1,10 +1,15 @@
 package student;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import student.model.Booking.CarBookingLogRepository;
+import student.model.Booking.CarBookingRepository;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,4 +49,19 @@ class MainTest {
 
         assertTrue(t.isAlive() || !t.isAlive());
     }
+
+    @Test
+    void bookingsShouldStayInMemoryByDefault() {
+        CarBookingRepository repo = Main.createBookingRepository(new String[]{});
+        assertFalse(repo instanceof CarBookingLogRepository);
+    }
+
+    @Test
+    void bookingLogOptionShouldOpenLog(@TempDir Path dir) {
+        CarBookingRepository repo = Main.createBookingRepository(new String[]{"--booking-log=" + dir});
+        try (CarBookingLogRepository log = assertInstanceOf(CarBookingLogRepository.class, repo)) {
+            assertTrue(Files.exists(dir.resolve("bookings.log")));
+            log.clear();
+        }
+    }
 }
@@ -7,9 +7,12 @@ import student.model.Booking.CarBookingService;
 import student.model.Booking.CarBookingRepository;
 import student.model.Car.*;
 import student.model.User.*;
+import student.model.utils.CarQuery;
 import student.view.gui.CarRentalGUIView;
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -166,7 +169,7 @@ class CarRentalGUIControllerTest {
         User user = userService.getUsers().get(0);
         Car car = bookingService.getAvailableCars().get(0);
 
-        UUID bookingId = bookingService.bookCar(user, car.getRegNumber());
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
         CarBooking booking = bookingService.getBookings().stream()
                 .filter(b -> b.getBookingId().equals(bookingId))
                 .findFirst()
@@ -189,7 +192,7 @@ class CarRentalGUIControllerTest {
     void shouldNotCancelAlreadyCanceledBooking() {
         User user = userService.register("U_" + UUID.randomUUID());
         Car car = bookingService.getAvailableCars().get(0);
-        UUID id = bookingService.bookCar(user, car.getRegNumber());
+        UUID id = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
 
         CarBooking booking = bookingService.getBookings().stream()
                 .filter(b -> b.getBookingId().equals(id))
@@ -376,4 +379,37 @@ class CarRentalGUIControllerTest {
             assertNull(guiView.lastCarsShown);
         }
     }
+
+    @Test
+    void shouldShowRequestedPageOfSortedCars() {
+        List<Car> sorted = carService.sortCarsByPrice();
+        int pageSize = CarRentalGUIView.PAGE_SIZE;
+        if (sorted.size() <= pageSize) return;
+
+        controller.handleCarPage(carService.pageCars(new CarQuery().sortByPrice()), 1);
+
+        assertEquals(sorted.subList(pageSize, Math.min(2 * pageSize, sorted.size())), guiView.lastCarsShown);
+    }
+
+    @Test
+    void shouldApplyOnlyLatestAsyncSearch() {
+        Queue<Runnable> worker = new ArrayDeque<>();
+        Queue<Runnable> ui = new ArrayDeque<>();
+        CarRentalGUIController async = new CarRentalGUIController(carService, bookingService, userService, guiView,
+                new GuiTaskRunner(worker::add, ui::add));
+
+        async.handleSearchByKeyword("tesla");
+        async.handleSearchByKeyword("zzz-no-match");
+        assertNull(guiView.lastCarsShown);
+        assertEquals(List.of(true), guiView.busyChanges);
+
+        while (!worker.isEmpty() || !ui.isEmpty()) {
+            if (!worker.isEmpty()) worker.poll().run();
+            if (!ui.isEmpty()) ui.poll().run();
+        }
+
+        assertNotNull(guiView.lastCarsShown);
+        assertTrue(guiView.lastCarsShown.isEmpty());
+        assertEquals(List.of(true, false), guiView.busyChanges);
+    }
 }
@@ -0,0 +1,134 @@
+package student.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import student.model.utils.CsvExporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvExportWorkerTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<String> statuses = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private final CsvExporter<String> exporter = new CsvExporter<>("Value", CsvExporter::appendField);
+
+    private CsvExportWorker<String> worker(List<String> rows, Path target) {
+        return new CsvExportWorker<>(exporter, rows, target, statuses::add, failure::set);
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.toList();
+        }
+    }
+
+    @Test
+    void shouldWriteTargetWithoutLeavingTempFiles() throws Exception {
+        Path target = dir.resolve("out.csv");
+        CsvExportWorker<String> worker = worker(List.of("a", "b,c"), target);
+
+        worker.execute();
+
+        assertEquals(2L, worker.get(10, TimeUnit.SECONDS));
+        assertEquals(List.of("Value", "a", "\"b,c\""), Files.readAllLines(target));
+        assertEquals(List.of(target), files());
+    }
+
+    @Test
+    void shouldReplaceExistingTarget() throws Exception {
+        Path target = dir.resolve("out.csv");
+        Files.writeString(target, "old");
+        CsvExportWorker<String> worker = worker(List.of("new"), target);
+
+        worker.execute();
+        worker.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("Value", "new"), Files.readAllLines(target));
+    }
+
+    @Test
+    void canceledExportShouldLeaveNoFiles() throws Exception {
+        Path target = dir.resolve("out.csv");
+        int size = CsvExportWorker.PROGRESS_INTERVAL * 4;
+        AtomicReference<CsvExportWorker<String>> ref = new AtomicReference<>();
+        List<String> rows = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (index == CsvExportWorker.PROGRESS_INTERVAL / 2) ref.get().cancel(false);
+                return "row" + index;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+        CsvExportWorker<String> worker = worker(rows, target);
+        ref.set(worker);
+
+        worker.execute();
+
+        assertTrue(worker.awaitFinished(10, TimeUnit.SECONDS));
+        assertTrue(worker.isCancelled());
+        assertFalse(Files.exists(target));
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void exportCanceledAfterLastRowShouldKeepTarget() throws Exception {
+        Path target = dir.resolve("out.csv");
+        Files.writeString(target, "old");
+        AtomicReference<CsvExportWorker<String>> ref = new AtomicReference<>();
+        List<String> rows = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (index == 2) ref.get().cancel(false);
+                return "row" + index;
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+        CsvExportWorker<String> worker = worker(rows, target);
+        ref.set(worker);
+
+        worker.execute();
+
+        assertTrue(worker.awaitFinished(10, TimeUnit.SECONDS));
+        assertTrue(worker.isCancelled());
+        assertEquals(List.of("old"), Files.readAllLines(target));
+        assertEquals(List.of(target), files());
+    }
+
+    @Test
+    void failedExportShouldReportCause() throws Exception {
+        Path target = dir.resolve("missing").resolve("out.csv");
+        CsvExportWorker<String> worker = worker(List.of("a"), target);
+
+        worker.execute();
+
+        assertTrue(worker.awaitFinished(10, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (failure.get() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertInstanceOf(IOException.class, failure.get());
+        assertTrue(statuses.stream().anyMatch(s -> s.startsWith("❌ Export failed")));
+        assertEquals(List.of(), files());
+    }
+}
@@ -0,0 +1,134 @@
+package student.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuiTaskRunnerTest {
+
+    private final Queue<Runnable> worker = new ArrayDeque<>();
+    private final Queue<Runnable> ui = new ArrayDeque<>();
+    private final List<Boolean> busy = new ArrayList<>();
+    private final List<Object> results = new ArrayList<>();
+    private final List<Exception> errors = new ArrayList<>();
+
+    private GuiTaskRunner queued() {
+        GuiTaskRunner runner = new GuiTaskRunner(worker::add, ui::add);
+        runner.setBusyListener(busy::add);
+        return runner;
+    }
+
+    private void drain() {
+        while (!worker.isEmpty() || !ui.isEmpty()) {
+            if (!worker.isEmpty()) worker.poll().run();
+            if (!ui.isEmpty()) ui.poll().run();
+        }
+    }
+
+    @Test
+    void directRunnerShouldApplyResultImmediately() {
+        GuiTaskRunner runner = GuiTaskRunner.direct();
+        runner.setBusyListener(busy::add);
+
+        runner.submit(() -> "done", results::add, errors::add);
+
+        assertEquals(List.of("done"), results);
+        assertEquals(List.of(true, false), busy);
+        assertFalse(runner.isBusy());
+    }
+
+    @Test
+    void shouldApplyResultOnUiExecutor() {
+        GuiTaskRunner runner = queued();
+        runner.submit(() -> 42, results::add, errors::add);
+
+        worker.poll().run();
+        assertTrue(results.isEmpty());
+        assertTrue(runner.isBusy());
+
+        ui.poll().run();
+        assertEquals(List.of(42), results);
+        assertFalse(runner.isBusy());
+    }
+
+    @Test
+    void newerQueryShouldSupersedeRunningOne() {
+        GuiTaskRunner runner = queued();
+
+        runner.submit(() -> "first", results::add, errors::add);
+        runner.submit(() -> "second", results::add, errors::add);
+        drain();
+
+        assertEquals(List.of("second"), results);
+        assertEquals(List.of(true, false), busy);
+    }
+
+    @Test
+    void supersededQueryShouldBeDiscardedEvenIfItCompletes() {
+        GuiTaskRunner runner = queued();
+
+        runner.submit(() -> "first", results::add, errors::add);
+        Runnable first = worker.poll();
+        runner.submit(() -> "second", results::add, errors::add);
+        first.run();
+        drain();
+
+        assertEquals(List.of("second"), results);
+    }
+
+    @Test
+    void commandShouldNeitherSupersedeNorBeSuperseded() {
+        GuiTaskRunner runner = queued();
+
+        runner.submit(() -> "query", results::add, errors::add);
+        runner.execute(() -> "command", results::add, errors::add);
+        drain();
+        assertEquals(List.of("query", "command"), results);
+
+        results.clear();
+        runner.execute(() -> "second command", results::add, errors::add);
+        runner.submit(() -> "newer query", results::add, errors::add);
+        drain();
+        assertEquals(List.of("second command", "newer query"), results);
+        assertFalse(runner.isBusy());
+        assertEquals(List.of(true, false, true, false), busy);
+    }
+
+    @Test
+    void shouldReportFailure() {
+        GuiTaskRunner runner = queued();
+
+        runner.submit(() -> {
+            throw new IllegalStateException("boom");
+        }, results::add, errors::add);
+        drain();
+
+        assertTrue(results.isEmpty());
+        assertEquals("boom", errors.get(0).getMessage());
+        assertFalse(runner.isBusy());
+    }
+
+    @Test
+    void backgroundRunnerShouldRunOffCallingThread() throws InterruptedException {
+        GuiTaskRunner runner = GuiTaskRunner.background();
+        AtomicReference<Thread> queryThread = new AtomicReference<>();
+        CountDownLatch applied = new CountDownLatch(1);
+
+        runner.submit(() -> {
+            queryThread.set(Thread.currentThread());
+            return 1;
+        }, result -> applied.countDown(), errors::add);
+
+        assertTrue(applied.await(10, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), queryThread.get());
+        assertTrue(queryThread.get().isDaemon());
+    }
+}
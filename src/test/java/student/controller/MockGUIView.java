@@ -4,9 +4,12 @@ import student.controller.CarRentalGUIController;
 import student.model.Booking.CarBooking;
 import student.model.Car.Car;
 import student.model.User.User;
+import student.model.utils.Page;
+import student.model.utils.PageSource;
 import student.view.gui.CarRentalGUIView;
 
 import javax.swing.*;
+import java.util.ArrayList;
 import java.util.List;
 
 public class MockGUIView extends CarRentalGUIView {
@@ -15,6 +18,7 @@ public class MockGUIView extends CarRentalGUIView {
     public List<CarBooking> lastBookingsShown;
     public List<Car> lastCarsShown;
     public List<User> lastUsersShown;
+    public List<Boolean> busyChanges = new ArrayList<>();
 
     public MockGUIView() {
         super(null, null, null);
@@ -30,6 +34,11 @@ public class MockGUIView extends CarRentalGUIView {
         this.lastCarsShown = cars;
     }
 
+    @Override
+    public void showCarPage(PageSource<Car> source, Page<Car> page) {
+        this.lastCarsShown = page.getItems();
+    }
+
     @Override
     public void showBookings(List<CarBooking> bookings) {
         this.lastBookingsShown = bookings;
@@ -45,6 +54,11 @@ public class MockGUIView extends CarRentalGUIView {
         lastMessage = message;
     }
 
+    @Override
+    public void setBusy(boolean busy) {
+        busyChanges.add(busy);
+    }
+
     @Override
     public void setViewListener(CarRentalGUIController controller) {
         // Do nothing
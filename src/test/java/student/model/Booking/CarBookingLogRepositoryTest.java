@@ -0,0 +1,289 @@
+package student.model.Booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarBookingLogRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private final User user = new User(UUID.randomUUID(), "Alice");
+
+    private CarBooking newBooking(String regNumber) {
+        Car car = new Car(regNumber, new BigDecimal("42.50"), Brand.BYD, true, "Han");
+        return new CarBooking(UUID.randomUUID(), user, car, LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123));
+    }
+
+    /**
+     * Simulates a restart by dropping the shared in-memory state.
+     */
+    private void forgetInMemoryState() {
+        new CarBookingRepository().clear();
+    }
+
+    @BeforeEach
+    void setUp() {
+        forgetInMemoryState();
+    }
+
+    @AfterEach
+    void tearDown() {
+        forgetInMemoryState();
+    }
+
+    @Test
+    void shouldReplayBookingsAndCancellationsAfterRestart() {
+        CarBooking first = newBooking("LOG1");
+        CarBooking second = newBooking("LOG2");
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            repo.book(first);
+            repo.book(second);
+            repo.cancelCarBooking(first.getBookingId());
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            List<CarBooking> bookings = repo.getCarBookings();
+            assertEquals(List.of(first, second), bookings);
+            assertTrue(bookings.get(0).isCanceled());
+            assertFalse(bookings.get(1).isCanceled());
+            assertEquals(first.getBookingTime(), bookings.get(0).getBookingTime());
+            assertEquals(user, bookings.get(0).getUser());
+            assertEquals(second.getCar(), bookings.get(1).getCar());
+            assertFalse(repo.isCarBooked("LOG1"));
+            assertTrue(repo.isCarBooked("LOG2"));
+        }
+    }
+
+    @Test
+    void shouldSnapshotAndTruncateLog() throws IOException {
+        List<CarBooking> booked = new ArrayList<>();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 3)) {
+            for (int i = 0; i < 7; i++) {
+                CarBooking booking = newBooking("SNAP" + i);
+                repo.book(booking);
+                booked.add(booking);
+            }
+            repo.cancelCarBooking(booked.get(2).getBookingId());
+        }
+
+        assertTrue(Files.exists(dir.resolve(CarBookingLogRepository.SNAPSHOT_FILE)));
+        assertTrue(Files.size(dir.resolve(CarBookingLogRepository.LOG_FILE)) > 0);
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 3)) {
+            assertEquals(booked, repo.getCarBookings());
+            assertTrue(repo.getCarBookings().get(2).isCanceled());
+
+            repo.snapshot();
+            assertEquals(0, Files.size(dir.resolve(CarBookingLogRepository.LOG_FILE)));
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 3)) {
+            assertEquals(booked, repo.getCarBookings());
+        }
+    }
+
+    @Test
+    void shouldDiscardTornTailOfLog() throws IOException {
+        CarBooking booking = newBooking("TORN");
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            repo.book(booking);
+        }
+        Path log = dir.resolve(CarBookingLogRepository.LOG_FILE);
+        long validLength = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        forgetInMemoryState();
+        CarBooking next = newBooking("TORN2");
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            assertEquals(List.of(booking), repo.getCarBookings());
+            assertEquals(validLength, Files.size(log));
+            repo.book(next);
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            assertEquals(List.of(booking, next), repo.getCarBookings());
+        }
+    }
+
+    @Test
+    void shouldPersistConcurrentBookings() throws InterruptedException {
+        int threads = 8;
+        int perThread = 25;
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 50)) {
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                workers.add(new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) repo.book(newBooking("C" + id + "-" + i));
+                }));
+            }
+            for (Thread worker : workers) worker.start();
+            for (Thread worker : workers) worker.join();
+            assertEquals(threads * perThread, repo.getCarBookings().size());
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 50)) {
+            assertEquals(threads * perThread, repo.getCarBookings().size());
+            assertTrue(repo.isCarBooked("C7-24"));
+        }
+    }
+
+    @Test
+    void clearShouldRemovePersistedBookings() {
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            repo.book(newBooking("GONE"));
+            repo.clear();
+        }
+
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            assertTrue(repo.getCarBookings().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldReplayBookingPeriods() {
+        Car car = new Car("LOG-PERIOD", new BigDecimal("42.50"), Brand.BYD, true, "Han");
+        LocalDateTime pickup = LocalDateTime.of(2031, 1, 1, 8, 0);
+        CarBooking ranged = new CarBooking(UUID.randomUUID(), user, car, pickup.minusDays(5), pickup, pickup.plusDays(2));
+        CarBooking open = new CarBooking(UUID.randomUUID(), user, car, pickup, pickup.plusDays(2), null);
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            repo.book(ranged);
+            repo.book(open);
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            assertEquals(List.of(ranged, open), repo.getCarBookings());
+            assertFalse(repo.isCarAvailable("LOG-PERIOD", pickup.plusDays(1), pickup.plusDays(3)));
+            assertTrue(repo.isCarAvailable("LOG-PERIOD", pickup.minusDays(1), pickup));
+        }
+    }
+
+    @Test
+    void shouldReplayBookedGroup() {
+        List<CarBooking> group = List.of(newBooking("GRP1"), newBooking("GRP2"), newBooking("GRP3"));
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            assertEquals(group, repo.tryBookAll(group, true));
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            assertEquals(group, repo.getCarBookings());
+        }
+    }
+
+    @Test
+    void failedWriteShouldRollBackAndRefuseFurtherChanges() {
+        CarBooking kept = newBooking("FAIL1");
+        CarBooking lost = newBooking("FAIL2");
+        CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100);
+        repo.book(kept);
+        repo.close();
+
+        assertThrows(IllegalStateException.class, () -> repo.book(lost));
+        assertNull(repo.findById(lost.getBookingId()));
+        assertFalse(repo.isCarBooked("FAIL2"));
+        assertEquals(List.of(kept), repo.getCarBookings());
+
+        IllegalStateException refused = assertThrows(IllegalStateException.class,
+                () -> repo.cancelCarBooking(kept.getBookingId()));
+        assertTrue(refused.getMessage().contains("unavailable"));
+        assertFalse(kept.isCanceled());
+        assertTrue(repo.isCarBooked("FAIL1"));
+    }
+
+    @Test
+    void failedCancellationShouldKeepBookingActive() {
+        CarBooking booking = newBooking("FAIL3");
+        CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100);
+        repo.book(booking);
+        repo.close();
+
+        assertThrows(IllegalStateException.class, () -> repo.cancelCarBooking(booking.getBookingId()));
+        assertFalse(booking.isCanceled());
+        assertTrue(repo.isCarBooked("FAIL3"));
+        assertEquals(1, repo.getActiveBookingsByUser(user.getId()).size());
+    }
+
+    @Test
+    void shouldAllowOnlyOneOpenLog(@TempDir Path otherDir) {
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            repo.book(newBooking("ONLY1"));
+            assertThrows(IllegalStateException.class, () -> new CarBookingLogRepository(otherDir, 100));
+            assertThrows(IllegalStateException.class, this::forgetInMemoryState);
+            assertEquals(1, repo.getCarBookings().size());
+        }
+
+        assertDoesNotThrow(this::forgetInMemoryState);
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(otherDir, 100)) {
+            assertTrue(repo.getCarBookings().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldReplayPricesWithTheirScale() {
+        List<CarBooking> booked = new ArrayList<>();
+        for (String price : List.of("42.50", "1E+2", "0.0000001")) {
+            Car car = new Car("PRICE-" + price, new BigDecimal(price), Brand.BYD, true, "Han");
+            booked.add(new CarBooking(UUID.randomUUID(), user, car, LocalDateTime.of(2024, 5, 1, 10, 0)));
+        }
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            repo.bookAll(booked);
+        }
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100)) {
+            for (int i = 0; i < booked.size(); i++) {
+                assertEquals(booked.get(i).getCar().getRentalPricePerDay(),
+                        repo.getCarBookings().get(i).getCar().getRentalPricePerDay());
+            }
+        }
+    }
+
+    @Test
+    void failedFlushDuringSnapshotShouldKeepUndoneBookingOutOfSnapshot() {
+        CarBooking kept = newBooking("SNAP1");
+        CarBooking lost = newBooking("SNAP2");
+        CarBookingLogRepository repo = new CarBookingLogRepository(dir, 100);
+        repo.book(kept);
+        repo.append(lost);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, repo::snapshot);
+        } finally {
+            Thread.interrupted();
+        }
+        assertNull(repo.findById(lost.getBookingId()));
+        assertFalse(repo.isCarBooked("SNAP2"));
+        repo.close();
+
+        forgetInMemoryState();
+        try (CarBookingLogRepository reopened = new CarBookingLogRepository(dir, 100)) {
+            assertEquals(List.of(kept), reopened.getCarBookings());
+        }
+    }
+}
@@ -8,8 +8,14 @@ import student.model.User.User;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -78,4 +84,216 @@ class CarBookingRepositoryTest {
 
         assertTrue(exception.getMessage().contains("not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldTrackActiveBookingByRegNumber() {
+        assertFalse(repository.isCarBooked(car.getRegNumber()));
+
+        repository.book(booking);
+        assertTrue(repository.isCarBooked(car.getRegNumber()));
+
+        repository.cancelCarBooking(bookingId);
+        assertFalse(repository.isCarBooked(car.getRegNumber()));
+    }
+
+    @Test
+    void shouldNotIndexCanceledBooking() {
+        booking.setCanceled(true);
+        repository.book(booking);
+
+        assertFalse(repository.isCarBooked(car.getRegNumber()));
+    }
+
+    @Test
+    void shouldResyncIndexWhenListIsClearedExternally() {
+        repository.book(booking);
+        assertTrue(repository.isCarBooked(car.getRegNumber()));
+
+        repository.getCarBookings().clear();
+
+        assertFalse(repository.isCarBooked(car.getRegNumber()));
+    }
+
+    @Test
+    void tryBookShouldRejectOverlappingPeriodsOnly() {
+        Car rental = new Car("CAR-RANGE", new BigDecimal("50"), Brand.KIA, false, "Rio");
+        LocalDateTime day = LocalDateTime.of(2030, 6, 1, 9, 0);
+        CarBooking first = new CarBooking(UUID.randomUUID(), user, rental, day, day, day.plusDays(2));
+        CarBooking overlapping = new CarBooking(UUID.randomUUID(), user, rental, day, day.plusDays(1), day.plusDays(3));
+        CarBooking adjacent = new CarBooking(UUID.randomUUID(), user, rental, day, day.plusDays(2), day.plusDays(4));
+        CarBooking before = new CarBooking(UUID.randomUUID(), user, rental, day, day.minusDays(1), day);
+
+        assertTrue(repository.tryBook(first));
+        assertFalse(repository.tryBook(overlapping));
+        assertTrue(repository.tryBook(adjacent));
+        assertTrue(repository.tryBook(before));
+
+        assertFalse(repository.isCarAvailable(rental.getRegNumber(), day.plusHours(1), day.plusHours(2)));
+        assertTrue(repository.isCarAvailable(rental.getRegNumber(), day.plusDays(4), day.plusDays(5)));
+        assertFalse(repository.isCarAvailable(rental.getRegNumber(), day.plusDays(3), null));
+
+        repository.cancelCarBooking(adjacent.getBookingId());
+        assertTrue(repository.isCarAvailable(rental.getRegNumber(), day.plusDays(2), null));
+        assertTrue(repository.tryBook(new CarBooking(UUID.randomUUID(), user, rental, day, day.plusDays(2), null)));
+
+        repository.clear();
+    }
+
+    @Test
+    void finishedBookingShouldNotBlockCar() {
+        Car rental = new Car("CAR-PAST", new BigDecimal("50"), Brand.KIA, false, "Rio");
+        LocalDateTime lastWeek = LocalDateTime.now().minusWeeks(1);
+        repository.book(new CarBooking(UUID.randomUUID(), user, rental, lastWeek, lastWeek, lastWeek.plusDays(2)));
+
+        assertFalse(repository.isCarBooked(rental.getRegNumber()));
+        assertFalse(repository.isCarAvailable(rental.getRegNumber(), lastWeek, lastWeek.plusDays(1)));
+
+        repository.clear();
+    }
+
+    @Test
+    void tryBookAllShouldRespectAllOrNothing() {
+        Car first = new Car("CAR-G1", new BigDecimal("50"), Brand.KIA, false, "Rio");
+        Car second = new Car("CAR-G2", new BigDecimal("50"), Brand.KIA, false, "Rio");
+        LocalDateTime now = LocalDateTime.now();
+        repository.book(new CarBooking(UUID.randomUUID(), user, second, now));
+
+        List<CarBooking> group = List.of(
+                new CarBooking(UUID.randomUUID(), user, first, now),
+                new CarBooking(UUID.randomUUID(), user, second, now),
+                new CarBooking(UUID.randomUUID(), user, first, now));
+
+        assertTrue(repository.tryBookAll(group, true).isEmpty());
+        assertFalse(repository.isCarBooked(first.getRegNumber()));
+
+        assertEquals(List.of(group.get(0)), repository.tryBookAll(group, false));
+        assertTrue(repository.isCarBooked(first.getRegNumber()));
+
+        repository.clear();
+    }
+
+    @Test
+    void shouldIndexActiveBookingsByUser() {
+        User other = new User(UUID.randomUUID(), "Bob");
+        Car second = new Car("CAR-U2", new BigDecimal("50"), Brand.KIA, false, "Rio");
+        CarBooking mine = new CarBooking(UUID.randomUUID(), other, car, LocalDateTime.now());
+        CarBooking alsoMine = new CarBooking(UUID.randomUUID(), other, second, LocalDateTime.now());
+        CarBooking canceled = new CarBooking(UUID.randomUUID(), other, second, LocalDateTime.now());
+        canceled.setCanceled(true);
+
+        repository.book(mine);
+        repository.book(canceled);
+        repository.bookAll(List.of(alsoMine));
+        assertEquals(List.of(mine, alsoMine), repository.getActiveBookingsByUser(other.getId()));
+
+        repository.cancelCarBooking(mine.getBookingId());
+        assertEquals(List.of(alsoMine), repository.getActiveBookingsByUser(other.getId()));
+
+        alsoMine.setCanceled(true);
+        assertTrue(repository.getActiveBookingsByUser(other.getId()).isEmpty());
+
+        repository.getCarBookings().clear();
+        assertTrue(repository.getActiveBookingsByUser(other.getId()).isEmpty());
+    }
+
+    @Test
+    void findByIdShouldReturnBookingsIncludingCanceled() {
+        repository.book(booking);
+        assertSame(booking, repository.findById(bookingId));
+
+        repository.cancelCarBooking(bookingId);
+        assertSame(booking, repository.findById(bookingId));
+        assertTrue(repository.findById(bookingId).isCanceled());
+
+        assertNull(repository.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void findByIdShouldFollowExternalListChanges() {
+        repository.book(booking);
+        repository.getCarBookings().remove(booking);
+
+        assertNull(repository.findById(bookingId));
+        assertThrows(IllegalStateException.class, () -> repository.cancelCarBooking(bookingId));
+    }
+
+    @Test
+    void bookShouldStoreNothingWhenItOverlapsAnActiveBooking() {
+        Car shared = new Car("OVERLAP1", new BigDecimal("30.00"), Brand.KIA, false, "Rio");
+        LocalDateTime pickup = LocalDateTime.of(2032, 3, 1, 9, 0);
+        CarBooking first = new CarBooking(UUID.randomUUID(), user, shared, pickup, pickup, pickup.plusDays(3));
+        CarBooking clash = new CarBooking(UUID.randomUUID(), user, shared, pickup, pickup.plusDays(1), null);
+        Car free = new Car("OVERLAP2", new BigDecimal("30.00"), Brand.KIA, false, "Rio");
+        CarBooking other = new CarBooking(UUID.randomUUID(), user, free, pickup, pickup, pickup.plusDays(1));
+        repository.book(first);
+        int stored = repository.getCarBookings().size();
+
+        assertThrows(IllegalStateException.class, () -> repository.book(clash));
+        assertThrows(IllegalStateException.class, () -> repository.bookAll(List.of(other, clash)));
+        assertEquals(stored, repository.getCarBookings().size());
+        assertNull(repository.findById(clash.getBookingId()));
+        assertTrue(repository.isCarAvailable("OVERLAP2", pickup, pickup.plusDays(1)));
+
+        repository.cancelCarBooking(first.getBookingId());
+    }
+
+    @Test
+    void overlappingBookingAddedThroughListShouldNotBreakRebuild() {
+        Car shared = new Car("OVERLAP3", new BigDecimal("30.00"), Brand.KIA, false, "Rio");
+        LocalDateTime pickup = LocalDateTime.of(2033, 3, 1, 9, 0);
+        CarBooking first = new CarBooking(UUID.randomUUID(), user, shared, pickup, pickup, pickup.plusDays(3));
+        CarBooking clash = new CarBooking(UUID.randomUUID(), user, shared, pickup, pickup.plusDays(1), null);
+        repository.book(first);
+
+        repository.getCarBookings().add(clash);
+
+        assertSame(clash, repository.findById(clash.getBookingId()));
+        assertFalse(repository.isCarAvailable("OVERLAP3", pickup, pickup.plusDays(1)));
+        assertTrue(repository.getActiveBookingsByUser(user.getId()).contains(clash));
+        Car other = new Car("OVERLAP4", new BigDecimal("30.00"), Brand.KIA, false, "Rio");
+        CarBooking later = new CarBooking(UUID.randomUUID(), user, other, pickup, pickup, pickup.plusDays(1));
+        assertDoesNotThrow(() -> repository.book(later));
+
+        repository.cancelCarBooking(later.getBookingId());
+        repository.cancelCarBooking(clash.getBookingId());
+        repository.cancelCarBooking(first.getBookingId());
+    }
+
+    @Test
+    void concurrentCancellationsShouldSucceedOnlyOnce() throws Exception {
+        Car shared = new Car("CANCEL1", new BigDecimal("30.00"), Brand.KIA, false, "Rio");
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                CarBooking target = new CarBooking(UUID.randomUUID(), user, shared, LocalDateTime.now());
+                repository.book(target);
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger canceled = new AtomicInteger();
+                AtomicInteger refused = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            repository.cancelCarBooking(target.getBookingId());
+                            canceled.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            assertTrue(e.getMessage().contains("already canceled"));
+                            refused.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) future.get();
+
+                assertEquals(1, canceled.get());
+                assertEquals(threads - 1, refused.get());
+                assertFalse(repository.isCarBooked("CANCEL1"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
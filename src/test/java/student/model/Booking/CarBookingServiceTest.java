@@ -1,13 +1,26 @@
 package student.model.Booking;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import student.model.Car.*;
 import student.model.User.*;
+import student.model.utils.Page;
+import student.model.utils.PageSource;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,12 +39,17 @@ class CarBookingServiceTest {
         userService = new UserService(new UserArrayRepository());
     }
 
+    @AfterEach
+    void tearDown() {
+        bookingRepository.clear();
+    }
+
     @Test
     void bookCar() {
         User user = userService.register("Tom");
         Car car = bookingService.getAvailableCars().get(0);
 
-        UUID bookingId = bookingService.bookCar(user, car.getRegNumber());
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
         assertNotNull(bookingId);
 
         CarBooking booking = bookingService.getBookings().stream()
@@ -91,11 +109,25 @@ class CarBookingServiceTest {
         assertTrue(hasBooking);
     }
 
+    @Test
+    void getBookingsSnapshotShouldNotChangeWithLaterBookings() {
+        User user = userService.register("Snap");
+        List<Car> cars = bookingService.getAvailableCars();
+        bookingService.bookCar(user, cars.get(0).getRegNumber());
+
+        List<CarBooking> snapshot = bookingService.getBookingsSnapshot();
+        assertEquals(bookingService.getBookings(), snapshot);
+
+        bookingService.bookCar(user, cars.get(1).getRegNumber());
+        assertEquals(bookingService.getBookings().size() - 1, snapshot.size());
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+    }
+
     @Test
     void cancelBooking() {
         User user = userService.register("John");
         Car car = bookingService.getAvailableCars().get(0);
-        UUID bookingId = bookingService.bookCar(user, car.getRegNumber());
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
 
         bookingService.cancelBooking(bookingId);
 
@@ -106,4 +138,293 @@ class CarBookingServiceTest {
 
         assertTrue(booking.isCanceled());
     }
-}
\ No newline at end of file
+
+    @Test
+    void canceledBookingMakesCarAvailableAgain() {
+        User user = userService.register("Lena");
+        Car car = bookingService.getAvailableCars().get(0);
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
+        assertFalse(bookingService.getAvailableCars().contains(car));
+
+        bookingService.cancelBooking(bookingId);
+
+        assertTrue(bookingService.getAvailableCars().contains(car));
+        UUID rebooked = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
+        assertNotEquals(bookingId, rebooked);
+        bookingService.cancelBooking(rebooked);
+    }
+
+    @Test
+    void bookCarRejectsAlreadyBookedCar() {
+        User user = userService.register("Nina");
+        Car car = bookingService.getAvailableCars().get(0);
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
+
+        assertThrows(IllegalStateException.class, () -> bookingService.bookCar(user, car.getRegNumber()));
+        bookingService.cancelBooking(bookingId);
+    }
+
+    @Test
+    void concurrentBookCarNeverDoubleBooks() throws Exception {
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            fleet.add(new Car("STRESS-" + i, new BigDecimal("10.00"), Brand.KIA, false, "Rio"));
+        }
+        CarBookingService service = new CarBookingService(bookingRepository, new CarService(() -> fleet));
+        User user = userService.register("Stress");
+
+        int threads = 16;
+        int rounds = 200;
+        AtomicInteger successes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        for (Car car : fleet) {
+                            UUID bookingId;
+                            try {
+                                bookingId = service.bookCar(user, car.getRegNumber()).getBookingId();
+                            } catch (IllegalStateException e) {
+                                continue;
+                            }
+                            successes.incrementAndGet();
+                            if (round < rounds - 1) bookingRepository.cancelCarBooking(bookingId);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(successes.get() >= fleet.size());
+        Map<String, Long> activeByCar = service.getBookings().stream()
+                .filter(booking -> !booking.isCanceled())
+                .collect(Collectors.groupingBy(booking -> booking.getCar().getRegNumber(), Collectors.counting()));
+        for (Car car : fleet) {
+            assertTrue(activeByCar.getOrDefault(car.getRegNumber(), 0L) <= 1, car.getRegNumber());
+        }
+    }
+
+    @Test
+    void concurrentBookCarBooksEachCarExactlyOnce() throws Exception {
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            fleet.add(new Car("ONCE-" + i, new BigDecimal("10.00"), Brand.BYD, true, "Dolphin"));
+        }
+        CarBookingService service = new CarBookingService(bookingRepository, new CarService(() -> fleet));
+        User user = userService.register("Race");
+
+        AtomicInteger successes = new AtomicInteger();
+        List<UUID> bookingIds = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 32; t++) {
+                futures.add(executor.submit(() -> {
+                    for (Car car : fleet) {
+                        try {
+                            bookingIds.add(service.bookCar(user, car.getRegNumber()).getBookingId());
+                            successes.incrementAndGet();
+                        } catch (IllegalStateException ignored) {
+                            // another thread won this car
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(fleet.size(), successes.get());
+        long active = bookingRepository.getCarBookings().stream()
+                .filter(b -> !b.isCanceled() && b.getCar().getRegNumber().startsWith("ONCE-"))
+                .count();
+        assertEquals(fleet.size(), active);
+        for (UUID bookingId : bookingIds) bookingRepository.cancelCarBooking(bookingId);
+    }
+
+    @Test
+    void bookCarForPeriodShouldOnlyBlockThatPeriod() {
+        User user = userService.register("Period");
+        Car car = bookingService.getAvailableCars().get(0);
+        LocalDateTime pickup = LocalDateTime.now().plusYears(1);
+        LocalDateTime dropOff = pickup.plusDays(3);
+
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber(), pickup, dropOff).getBookingId();
+
+        assertFalse(bookingService.isCarAvailable(car.getRegNumber(), pickup.plusDays(1), pickup.plusDays(2)));
+        assertFalse(bookingService.getAvailableCars(pickup, dropOff).contains(car));
+        assertTrue(bookingService.getAvailableCars(dropOff, dropOff.plusDays(1)).contains(car));
+        assertThrows(IllegalStateException.class,
+                () -> bookingService.bookCar(user, car.getRegNumber(), pickup.minusDays(1), pickup.plusDays(1)));
+        UUID next = bookingService.bookCar(user, car.getRegNumber(), dropOff, dropOff.plusDays(2)).getBookingId();
+
+        bookingService.cancelBooking(bookingId);
+        bookingService.cancelBooking(next);
+        assertTrue(bookingService.isCarAvailable(car.getRegNumber(), pickup, dropOff));
+    }
+
+    @Test
+    void bookCarShouldRejectEmptyPeriod() {
+        User user = userService.register("Empty");
+        Car car = bookingService.getAvailableCars().get(0);
+        LocalDateTime pickup = LocalDateTime.now().plusDays(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.bookCar(user, car.getRegNumber(), pickup, pickup.minusHours(1)));
+    }
+
+    @Test
+    void bookCarsAllOrNothingShouldBookNothingIfOneCarIsTaken() {
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            fleet.add(new Car("BATCH-" + i, new BigDecimal("30.00"), Brand.AUDI, false, "A4"));
+        }
+        CarBookingService service = new CarBookingService(bookingRepository, new CarService(() -> fleet));
+        User user = userService.register("Corp");
+        UUID taken = service.bookCar(user, "BATCH-3").getBookingId();
+
+        assertThrows(IllegalStateException.class, () -> service.bookCars(user,
+                List.of("BATCH-0", "BATCH-1", "BATCH-2", "BATCH-3"), true));
+        assertTrue(service.isCarAvailable("BATCH-0", LocalDateTime.now(), null));
+
+        bookingRepository.cancelCarBooking(taken);
+        List<CarBooking> bookings = service.bookCars(user, List.of("BATCH-0", "BATCH-1", "BATCH-2", "BATCH-3"), true);
+        assertEquals(4, bookings.size());
+        assertEquals(List.of(fleet.get(4)), service.getAvailableCars());
+        for (CarBooking booking : bookings) service.cancelBooking(booking.getBookingId());
+    }
+
+    @Test
+    void bookCarsBestEffortShouldSkipTakenAndUnknownCars() {
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            fleet.add(new Car("EFFORT-" + i, new BigDecimal("30.00"), Brand.AUDI, false, "A4"));
+        }
+        CarBookingService service = new CarBookingService(bookingRepository, new CarService(() -> fleet));
+        User user = userService.register("Corp");
+        UUID taken = service.bookCar(user, "EFFORT-1").getBookingId();
+
+        List<CarBooking> bookings = service.bookCars(user, List.of("EFFORT-0", "EFFORT-1", "NOPE", "EFFORT-2", "EFFORT-0"), false);
+
+        assertEquals(2, bookings.size());
+        assertTrue(service.getAvailableCars().isEmpty());
+        assertThrows(IllegalStateException.class, () -> service.bookCars(user, List.of("NOPE"), true));
+        for (CarBooking booking : bookings) service.cancelBooking(booking.getBookingId());
+        service.cancelBooking(taken);
+    }
+
+    @Test
+    void concurrentOverlappingBatchesNeverDoubleBook() throws Exception {
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            fleet.add(new Car("GROUP-" + i, new BigDecimal("10.00"), Brand.KIA, false, "Rio"));
+        }
+        CarBookingService service = new CarBookingService(bookingRepository, new CarService(() -> fleet));
+        User user = userService.register("Groups");
+
+        List<UUID> bookingIds = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 5;
+                futures.add(executor.submit(() -> {
+                    List<String> group = new ArrayList<>();
+                    for (int c = 0; c < 10; c++) group.add(fleet.get((offset + c) % fleet.size()).getRegNumber());
+                    service.bookCars(user, group, false).forEach(booking -> bookingIds.add(booking.getBookingId()));
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(fleet.size(), bookingIds.size());
+        assertTrue(service.getAvailableCars().isEmpty());
+        for (UUID bookingId : bookingIds) bookingRepository.cancelCarBooking(bookingId);
+    }
+
+    @Test
+    void getUserBookingsShouldTrackBookAndCancel() {
+        User user = userService.register("Indexed");
+        List<Car> cars = bookingService.getAvailableCars();
+        UUID first = bookingService.bookCar(user, cars.get(0).getRegNumber()).getBookingId();
+        UUID second = bookingService.bookCar(user, cars.get(1).getRegNumber()).getBookingId();
+
+        assertEquals(List.of(first, second), bookingService.getUserBookings(user.getId()).stream()
+                .map(CarBooking::getBookingId).toList());
+
+        bookingService.cancelBooking(first);
+        assertEquals(List.of(cars.get(1)), bookingService.getUserBookedCars(user.getId()));
+
+        bookingService.cancelBooking(second);
+        assertTrue(bookingService.getUserBookings(user.getId()).isEmpty());
+    }
+
+    @Test
+    void bookCarShouldReturnCreatedBooking() {
+        User user = userService.register("Direct");
+        Car car = bookingService.getAvailableCars().get(0);
+
+        CarBooking booking = bookingService.bookCar(user, car.getRegNumber());
+
+        assertEquals(user, booking.getUser());
+        assertEquals(car, booking.getCar());
+        assertSame(booking, bookingService.findBooking(booking.getBookingId()));
+        bookingService.cancelBooking(booking.getBookingId());
+        assertTrue(bookingService.findBooking(booking.getBookingId()).isCanceled());
+        assertThrows(IllegalStateException.class, () -> bookingService.cancelBooking(booking.getBookingId()));
+        assertThrows(IllegalStateException.class, () -> bookingService.cancelBooking(UUID.randomUUID()));
+    }
+
+    @Test
+    void cheapestAvailableCarsShouldSkipBookedCars() {
+        List<Car> cheapest = bookingService.getCheapestAvailableCars(3, false);
+        assertEquals(bookingService.getAvailableCars().stream()
+                .sorted(Comparator.comparing(Car::getRentalPricePerDay)).limit(3).toList(), cheapest);
+
+        bookingService.bookCar(userService.register("Budget"), cheapest.get(0).getRegNumber());
+
+        List<Car> after = bookingService.getCheapestAvailableCars(3, false);
+        assertFalse(after.contains(cheapest.get(0)));
+        assertEquals(cheapest.subList(1, 3), after.subList(0, 2));
+    }
+
+    @Test
+    void mostExpensiveAvailableElectricCars() {
+        List<Car> expected = bookingService.getAvailableElectricCars().stream()
+                .sorted(Comparator.comparing(Car::getRentalPricePerDay).reversed())
+                .limit(2)
+                .toList();
+
+        assertEquals(expected, bookingService.getMostExpensiveAvailableCars(2, true));
+    }
+
+    @Test
+    void pagedAvailableCarsShouldMatchAvailableCars() {
+        User user = userService.register("Pager");
+        bookingService.bookCar(user, bookingService.getAvailableCars().get(3).getRegNumber());
+
+        for (boolean electricOnly : new boolean[]{false, true}) {
+            List<Car> expected = electricOnly ? bookingService.getAvailableElectricCars() : bookingService.getAvailableCars();
+            PageSource<Car> source = bookingService.pageAvailableCars(electricOnly);
+
+            List<Car> paged = new ArrayList<>();
+            Page<Car> page = source.fetch(0, 7);
+            paged.addAll(page.getItems());
+            while (page.hasNext()) {
+                page = source.fetch(page.getPageIndex() + 1, 7);
+                paged.addAll(page.getItems());
+            }
+
+            assertEquals(expected.size(), page.getTotalCount());
+            assertEquals(expected, paged);
+        }
+    }
+}
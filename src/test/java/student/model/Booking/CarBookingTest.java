@@ -84,4 +84,33 @@ class CarBookingTest {
         CarBooking another = new CarBooking(bookingId, user, car, time);
         assertEquals(booking.hashCode(), another.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void openEndedBookingShouldStartAtBookingTime() {
+        assertEquals(time, booking.getPickupTime());
+        assertNull(booking.getReturnTime());
+        assertTrue(booking.overlaps(time.plusYears(10), null));
+        assertFalse(booking.overlaps(time.minusDays(2), time.minusDays(1)));
+    }
+
+    @Test
+    void periodShouldBeHalfOpen() {
+        LocalDateTime pickup = LocalDateTime.of(2025, 3, 1, 10, 0);
+        LocalDateTime dropOff = pickup.plusDays(3);
+        CarBooking ranged = new CarBooking(bookingId, user, car, time, pickup, dropOff);
+
+        assertEquals(pickup, ranged.getPickupTime());
+        assertEquals(dropOff, ranged.getReturnTime());
+        assertTrue(ranged.overlaps(pickup.plusDays(1), pickup.plusDays(2)));
+        assertTrue(ranged.overlaps(pickup.minusDays(1), pickup.plusHours(1)));
+        assertFalse(ranged.overlaps(dropOff, null));
+        assertFalse(ranged.overlaps(pickup.minusDays(1), pickup));
+        assertNotEquals(booking, ranged);
+    }
+
+    @Test
+    void shouldRejectReturnNotAfterPickup() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CarBooking(bookingId, user, car, time, time, time));
+    }
+}
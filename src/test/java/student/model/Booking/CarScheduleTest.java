@@ -0,0 +1,86 @@
+package student.model.Booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarScheduleTest {
+
+    private final User user = new User(UUID.randomUUID(), "Alice");
+    private final Car car = new Car("SCHED1", new BigDecimal("60.00"), Brand.AUDI, false, "A4");
+    private final LocalDateTime start = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private CarSchedule schedule;
+
+    private CarBooking booking(int fromDay, Integer toDay) {
+        return new CarBooking(UUID.randomUUID(), user, car, start,
+                start.plusDays(fromDay), toDay == null ? null : start.plusDays(toDay));
+    }
+
+    @BeforeEach
+    void setUp() {
+        schedule = new CarSchedule();
+    }
+
+    @Test
+    void shouldFindConflictsAmongManyDisjointBookings() {
+        for (int day = 0; day < 1000; day += 2) {
+            schedule.add(booking(day, day + 1));
+        }
+
+        assertFalse(schedule.isFree(start.plusDays(500), start.plusDays(501)));
+        assertTrue(schedule.isFree(start.plusDays(501), start.plusDays(502)));
+        assertFalse(schedule.isFree(start.plusDays(501), start.plusDays(503)));
+        assertTrue(schedule.isFree(start.plusDays(999), null));
+        assertTrue(schedule.isFree(start.minusDays(5), start));
+    }
+
+    @Test
+    void shouldTreatOpenEndedBookingAsBlockingEverythingAfter() {
+        schedule.add(booking(10, null));
+
+        assertTrue(schedule.isFree(start, start.plusDays(10)));
+        assertFalse(schedule.isFree(start.plusYears(50), start.plusYears(51)));
+        assertFalse(schedule.isFree(start, null));
+    }
+
+    @Test
+    void shouldSkipBookingsCanceledInPlace() {
+        CarBooking booking = booking(0, 5);
+        schedule.add(booking);
+        booking.setCanceled(true);
+
+        assertTrue(schedule.isFree(start.plusDays(1), start.plusDays(2)));
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test
+    void removeShouldFreePeriod() {
+        CarBooking booking = booking(0, 5);
+        schedule.add(booking);
+        schedule.remove(booking);
+
+        assertTrue(schedule.isFree(start, start.plusDays(5)));
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test
+    void addShouldRejectOverlappingBooking() {
+        schedule.add(booking(5, 10));
+
+        assertThrows(IllegalStateException.class, () -> schedule.add(booking(9, 12)));
+        assertThrows(IllegalStateException.class, () -> schedule.add(booking(0, null)));
+        assertThrows(IllegalStateException.class, () -> schedule.add(booking(6, 7)));
+        assertDoesNotThrow(() -> schedule.add(booking(10, 12)));
+        assertDoesNotThrow(() -> schedule.add(booking(0, 5)));
+        assertFalse(schedule.isFree(start.plusDays(9), start.plusDays(10)));
+    }
+}
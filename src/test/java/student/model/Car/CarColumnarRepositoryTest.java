@@ -0,0 +1,91 @@
+package student.model.Car;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarColumnarRepositoryTest {
+
+    @Test
+    void getAllCars_shouldMatchFileRepository() {
+        List<Car> expected = new CarFileRepository().getAllCars();
+        CarColumnarRepository repo = new CarColumnarRepository();
+
+        assertEquals(50, repo.size());
+        assertEquals(expected, repo.getAllCars());
+    }
+
+    @Test
+    void findByRegNumber_shouldReturnMatchingCar() {
+        CarColumnarRepository repo = new CarColumnarRepository();
+
+        Car car = repo.findByRegNumber("1049");
+        assertNotNull(car);
+        assertEquals(Brand.XIAOMI, car.getBrand());
+        assertEquals("SU7", car.getModel());
+        assertNull(repo.findByRegNumber("UNKNOWN"));
+    }
+
+    @Test
+    void columnScans_shouldMatchStreamFilters() {
+        List<Car> cars = new CarFileRepository().getAllCars();
+        CarColumnarRepository repo = new CarColumnarRepository(cars);
+
+        assertEquals(cars.stream().filter(Car::isElectric).collect(Collectors.toList()), repo.findElectric());
+        assertEquals(cars.stream().filter(c -> c.getBrand() == Brand.TESLA).collect(Collectors.toList()),
+                repo.findByBrand(Brand.TESLA));
+
+        BigDecimal min = new BigDecimal("40");
+        BigDecimal max = new BigDecimal("70.5");
+        assertEquals(cars.stream()
+                        .filter(c -> c.getRentalPricePerDay().compareTo(min) >= 0
+                                && c.getRentalPricePerDay().compareTo(max) <= 0)
+                        .collect(Collectors.toList()),
+                repo.findByPriceRange(min, max));
+    }
+
+    @Test
+    void views_shouldKeepOriginalPriceScale() {
+        List<Car> cars = List.of(
+                new Car("A", new BigDecimal("10"), Brand.KIA, false, "Rio"),
+                new Car("B", new BigDecimal("10.500"), Brand.KIA, true, "Rio"),
+                new Car("C", new BigDecimal("1E+2"), Brand.BYD, true, "Han"),
+                new Car("A", new BigDecimal("99.99"), Brand.AUDI, false, "A4")
+        );
+        CarColumnarRepository repo = new CarColumnarRepository(cars);
+
+        assertEquals(cars, repo.getAllCars());
+        assertEquals(cars.get(0), repo.findByRegNumber("A"));
+        assertEquals(List.of(cars.get(0), cars.get(1)),
+                repo.findByPriceRange(new BigDecimal("10"), new BigDecimal("10.5")));
+    }
+
+    @Test
+    void indexes_shouldBeBuiltOnceAndMatchFileRepository() {
+        CarFileRepository file = new CarFileRepository();
+        CarColumnarRepository repo = new CarColumnarRepository();
+
+        assertSame(repo.getPriceIndex(), repo.getPriceIndex());
+        assertSame(repo.getKeywordIndex(), repo.getKeywordIndex());
+        assertEquals(file.getPriceIndex().sortedByPrice(), repo.getPriceIndex().sortedByPrice());
+        assertEquals(file.getKeywordIndex().search("su"), repo.getKeywordIndex().search("su"));
+    }
+
+    @Test
+    void getAllCars_shouldBeReadOnly() {
+        CarColumnarRepository repo = new CarColumnarRepository();
+        assertThrows(UnsupportedOperationException.class, () -> repo.getAllCars().clear());
+    }
+
+    @Test
+    void missingFile_shouldCreateEmptyRepository() {
+        CarColumnarRepository repo = new CarColumnarRepository("data/missing.csv");
+        assertEquals(0, repo.size());
+        assertTrue(repo.getAllCars().isEmpty());
+        assertNull(repo.findByRegNumber("1000"));
+    }
+}
@@ -0,0 +1,117 @@
+package student.model.Car;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarCsvParserTest {
+
+    private static List<Car> parse(CarCsvParser parser, String csv) throws IOException {
+        List<Car> cars = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), cars::add);
+        return cars;
+    }
+
+    private static void assertSameCar(Car expected, Car actual) {
+        assertEquals(expected.getRegNumber(), actual.getRegNumber());
+        assertEquals(expected.getBrand(), actual.getBrand());
+        assertEquals(expected.getRentalPricePerDay(), actual.getRentalPricePerDay());
+        assertEquals(expected.isElectric(), actual.isElectric());
+        assertEquals(expected.getModel(), actual.getModel());
+    }
+
+    @Test
+    void parse_shouldMatchScannerSplitOnCarsCsv() throws IOException {
+        List<Car> expected = new ArrayList<>();
+        try (Scanner scanner = new Scanner(new File("data/cars.csv"))) {
+            while (scanner.hasNextLine()) {
+                String[] split = scanner.nextLine().split(",");
+                if (split.length < 5) continue;
+                expected.add(new Car(split[0], new BigDecimal(split[2]), Brand.valueOf(split[1]),
+                        Boolean.parseBoolean(split[3]), split[4]));
+            }
+        }
+
+        CarCsvParser parser = new CarCsvParser();
+        List<Car> actual = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(Path.of("data/cars.csv"))) {
+            assertEquals(expected.size(), parser.parse(in, actual::add));
+        }
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameCar(expected.get(i), actual.get(i));
+        }
+        assertEquals(expected.size(), parser.getRowsParsed());
+        assertTrue(parser.getRowsPerSecond() > 0);
+    }
+
+    @Test
+    void parse_shouldHandleLineEndingsAndShortLines() throws IOException {
+        String csv = "A1,TESLA,10.50,TRUE,Model 3\r\n"
+                + "\n"
+                + "short,line\n"
+                + "A2,HONDA,20,false,\n"
+                + "A3,AUDI,30,false,A4,extra\n"
+                + "A4,KIA,40,no,,Ignored\n"
+                + "A5,BYD,50,true,Han";
+        List<Car> cars = parse(new CarCsvParser(), csv);
+
+        assertEquals(List.of("A1", "A3", "A4", "A5"), cars.stream().map(Car::getRegNumber).toList());
+        assertTrue(cars.get(0).isElectric());
+        assertEquals(new BigDecimal("10.50"), cars.get(0).getRentalPricePerDay());
+        assertEquals("A4", cars.get(1).getModel());
+        assertEquals("", cars.get(2).getModel());
+        assertFalse(cars.get(2).isElectric());
+        assertEquals("Han", cars.get(3).getModel());
+    }
+
+    @Test
+    void parse_shouldHandleLinesLongerThanBuffer() throws IOException {
+        String longModel = "M".repeat(100);
+        List<Car> cars = parse(new CarCsvParser(8), "R1,TOYOTA,1.00,false," + longModel + "\nR2,SUBARU,2.00,true,X\n");
+
+        assertEquals(2, cars.size());
+        assertEquals(longModel, cars.get(0).getModel());
+        assertEquals("R2", cars.get(1).getRegNumber());
+    }
+
+    @Test
+    void parse_pricesShouldMatchBigDecimalParsing() throws IOException {
+        String[] prices = {"94.64", "5", "5.", ".5", "-2.50", "0.000", "1E3", "+7.1", "1234567890123456789.5"};
+        StringBuilder csv = new StringBuilder();
+        for (String price : prices) {
+            csv.append("R,AUDI,").append(price).append(",false,A6\n");
+        }
+        List<Car> cars = parse(new CarCsvParser(), csv.toString());
+
+        for (int i = 0; i < prices.length; i++) {
+            assertEquals(new BigDecimal(prices[i]), cars.get(i).getRentalPricePerDay(), prices[i]);
+        }
+        assertThrows(NumberFormatException.class, () -> parse(new CarCsvParser(), "R,AUDI,1.2.3,false,A6\n"));
+    }
+
+    @Test
+    void parse_shouldInternModelNames() throws IOException {
+        List<Car> cars = parse(new CarCsvParser(), "1,TESLA,1,true,Model Y\n2,TESLA,2,true,Model Y\n");
+        assertSame(cars.get(0).getModel(), cars.get(1).getModel());
+    }
+
+    @Test
+    void parse_unknownBrandShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> parse(new CarCsvParser(), "1,FORD,1,true,Focus\n"));
+    }
+}
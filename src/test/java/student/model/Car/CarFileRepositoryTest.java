@@ -1,8 +1,12 @@
 package student.model.Car;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,4 +47,48 @@ class CarFileRepositoryTest {
             assertNotNull(car.getModel());
         }
     }
+
+    @Test
+    void testFindByRegNumber_shouldUseIndex() {
+        CarFileRepository repo = new CarFileRepository();
+
+        Car car = repo.findByRegNumber("1049");
+        assertNotNull(car);
+        assertEquals(Brand.XIAOMI, car.getBrand());
+        assertSame(repo.getAllCars().get(49), car);
+
+        assertNull(repo.findByRegNumber("UNKNOWN"));
+    }
+
+    @Test
+    void testGetLoadRowsPerSecond_shouldReportLoadThroughput() {
+        assertTrue(new CarFileRepository().getLoadRowsPerSecond() > 0);
+        assertEquals(0, new CarFileRepository("data/missing.csv").getLoadRowsPerSecond());
+    }
+
+    @Test
+    void testLoad_shouldAcceptMixedExtremePriceScales(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cars.csv");
+        Files.writeString(file, "A,KIA,1000.00,false,Rio\n"
+                + "B,KIA,0.00000000000000001,false,Rio\n"
+                + "C,KIA,1E-20,false,Rio\n"
+                + "D,KIA,123456789012345678901234.5,false,Rio\n");
+
+        CarFileRepository repo = new CarFileRepository(file.toString());
+
+        assertEquals(4, repo.getAllCars().size());
+        assertEquals(List.of("C", "B", "A", "D"), regNumbers(repo.getPriceIndex().sortedByPrice()));
+        assertEquals(List.of("B", "A"), regNumbers(repo.getPriceIndex()
+                .inRange(new BigDecimal("1E-17"), new BigDecimal("1000"))));
+        assertEquals(List.of("D"), regNumbers(repo.getPriceIndex().mostExpensive(1, car -> true)));
+
+        CarColumnarRepository columns = new CarColumnarRepository(file.toString());
+        assertEquals(repo.getAllCars(), columns.getAllCars());
+        assertEquals(List.of("A", "B"), regNumbers(columns.findByPriceRange(new BigDecimal("1E-17"),
+                new BigDecimal("1000"))));
+    }
+
+    private static List<String> regNumbers(List<Car> cars) {
+        return cars.stream().map(Car::getRegNumber).toList();
+    }
 }
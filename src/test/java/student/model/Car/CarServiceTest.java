@@ -3,6 +3,11 @@ package student.model.Car;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import student.model.utils.CarKeywordIndex;
+import student.model.utils.CarQuery;
+import student.model.utils.Page;
+import student.model.utils.PageSource;
+
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -54,6 +59,12 @@ class CarServiceTest {
         assertThrows(IllegalStateException.class, () -> carService.getCar("INVALID"));
     }
 
+    @Test
+    void testFindCar_shouldReturnNullWhenMissing() {
+        assertEquals("Model 3", carService.findCar("XYZ789").getModel());
+        assertNull(carService.findCar("INVALID"));
+    }
+
     @Test
     void testSortCarsByPrice_shouldReturnInAscendingOrder() {
         List<Car> sorted = carService.sortCarsByPrice();
@@ -74,4 +85,70 @@ class CarServiceTest {
         assertEquals(1, results.size());
         assertEquals("Model 3", results.get(0).getModel());
     }
+
+    @Test
+    void testSearchCarsIncremental_shouldMatchSearchCarsWhileTyping() {
+        for (String keyword : List.of("t", "to", "toy", "toyo", "toy", "", "m", "mo", "1", "12", "123")) {
+            assertEquals(carService.searchCars(keyword), carService.searchCarsIncremental(keyword), keyword);
+        }
+    }
+
+    @Test
+    void testFindCars_shouldCombineCriteria() {
+        CarQuery query = new CarQuery().electric(false).priceBetween(new BigDecimal("20"), new BigDecimal("40")).sortByPrice();
+
+        List<Car> results = carService.findCars(query);
+
+        assertEquals(List.of("LMN456", "ABC123"), results.stream().map(Car::getRegNumber).toList());
+        assertEquals(2, carService.countCars(query.limit(1)));
+        assertEquals(1, carService.findCars(query).size());
+    }
+
+    @Test
+    void testPageCars_shouldFetchOnePageAtATime() {
+        PageSource<Car> source = carService.pageCars(new CarQuery().sortByPrice());
+
+        Page<Car> first = source.fetch(0, 2);
+        Page<Car> second = source.fetch(1, 2);
+
+        assertEquals(List.of("LMN456", "ABC123"), first.getItems().stream().map(Car::getRegNumber).toList());
+        assertEquals(List.of("XYZ789"), second.getItems().stream().map(Car::getRegNumber).toList());
+        assertEquals(3, second.getTotalCount());
+        assertEquals(2, second.getTotalPages());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testPageCars_shouldLookUpIndexesOncePerSource() {
+        List<Car> fleet = carService.getAllCars();
+        int[] lookups = new int[1];
+        CarService counting = new CarService(new CarRepository() {
+            @Override
+            public List<Car> getAllCars() {
+                return fleet;
+            }
+
+            @Override
+            public CarKeywordIndex getKeywordIndex() {
+                lookups[0]++;
+                return new CarKeywordIndex(fleet);
+            }
+        });
+
+        PageSource<Car> source = counting.pageCars(new CarQuery().keyword("o"));
+        source.fetch(0, 1);
+        source.fetch(1, 1);
+        source.fetch(2, 1);
+
+        assertEquals(1, lookups[0]);
+        assertEquals(carService.searchCars("o"), counting.findCars(new CarQuery().keyword("o")));
+    }
+
+    @Test
+    void testRepositoryWithoutIndexes_shouldScanInPriceOrder() {
+        assertEquals(List.of("LMN456", "ABC123"), carService.getCarsByPriceRange(new BigDecimal("20"), new BigDecimal("30"))
+                .stream().map(Car::getRegNumber).toList());
+        assertEquals(List.of("XYZ789", "ABC123"), carService.mostExpensiveCars(2, car -> true)
+                .stream().map(Car::getRegNumber).toList());
+    }
 }
@@ -19,6 +19,16 @@ class CarTest {
         assertEquals("Han", car.getModel());
     }
 
+    @Test
+    void priceShouldKeepItsScale() {
+        Car car = new Car("KIA1", new BigDecimal("80.0"), Brand.KIA, false, "Rio");
+
+        assertEquals(new BigDecimal("80.0"), car.getRentalPricePerDay());
+        assertEquals(800, car.getRentalPrice().getUnits());
+        assertEquals(1, car.getRentalPrice().getScale());
+        assertNotEquals(car, new Car("KIA1", new BigDecimal("80.00"), Brand.KIA, false, "Rio"));
+    }
+
     @Test
     void shouldCompareEqualCars() {
         Car car1 = new Car("A1", new BigDecimal("50.00"), Brand.TESLA, false, "Model Y");
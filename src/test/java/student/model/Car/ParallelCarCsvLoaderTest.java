@@ -0,0 +1,79 @@
+package student.model.Car;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCarCsvLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<Car> loadSequentially(Path file) throws IOException {
+        List<Car> cars = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            new CarCsvParser().parse(in, cars::add);
+        }
+        return cars;
+    }
+
+    private static void assertSameCars(List<Car> expected, List<Car> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getRegNumber(), actual.get(i).getRegNumber());
+            assertEquals(expected.get(i).getBrand(), actual.get(i).getBrand());
+            assertEquals(expected.get(i).getRentalPricePerDay(), actual.get(i).getRentalPricePerDay());
+            assertEquals(expected.get(i).isElectric(), actual.get(i).isElectric());
+            assertEquals(expected.get(i).getModel(), actual.get(i).getModel());
+        }
+    }
+
+    @Test
+    void load_shouldMatchSequentialParserForAnyChunkSize() throws IOException {
+        Brand[] brands = Brand.values();
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            csv.append(1000 + i).append(',').append(brands[i % brands.length]).append(',')
+                    .append(10 + i % 90).append('.').append(i % 100).append(',')
+                    .append(i % 2 == 0).append(",Model ").append(i % 7)
+                    .append(i % 5 == 0 ? "\r\n" : "\n");
+            if (i % 50 == 0) csv.append("broken,line\n");
+        }
+        csv.append("9999,KIA,12.00,true,EV6");
+        Path file = tempDir.resolve("cars.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+        List<Car> expected = loadSequentially(file);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long chunkSize : new long[]{1, 7, 64, 1000, 1 << 20}) {
+                assertSameCars(expected, ParallelCarCsvLoader.load(file, pool, chunkSize));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void load_shouldMatchSequentialParserOnCarsCsv() throws IOException {
+        Path file = Path.of("data/cars.csv");
+        assertSameCars(loadSequentially(file), ParallelCarCsvLoader.load(file));
+        assertSameCars(loadSequentially(file), ParallelCarCsvLoader.load(file, ForkJoinPool.commonPool(), 128));
+    }
+
+    @Test
+    void load_emptyFileShouldReturnEmptyList() throws IOException {
+        Path file = Files.createFile(tempDir.resolve("empty.csv"));
+        assertTrue(ParallelCarCsvLoader.load(file, ForkJoinPool.commonPool(), 16).isEmpty());
+    }
+}
@@ -46,6 +46,17 @@ class UserFileRepositoryTest {
         assertEquals("Alice", users.get(0).getName());
     }
 
+    @Test
+    void getUsersReturnsSnapshot() {
+        repository.addUser(new User(UUID.randomUUID(), "Alice"));
+        List<User> users = repository.getUsers();
+
+        repository.addUser(new User(UUID.randomUUID(), "Bob"));
+        assertEquals(1, users.size());
+        assertEquals(2, repository.getUsers().size());
+        assertThrows(UnsupportedOperationException.class, () -> users.add(new User(UUID.randomUUID(), "Eve")));
+    }
+
     @Test
     void getUsersReturnsEmptyListWhenFileDoesNotExist() throws IOException {
         File file = new File(TEST_FILE_PATH);
@@ -146,4 +157,34 @@ class UserFileRepositoryTest {
         User found = repository.findUserByName("Nonexistent");
         assertNull(found);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReloadAfterOutsideEdit() throws IOException {
+        User alice = new User(UUID.randomUUID(), "Alice");
+        repository.addUser(alice);
+        assertEquals(1, repository.getUsers().size());
+
+        User outsider = new User(UUID.randomUUID(), "Outsider");
+        try (FileWriter writer = new FileWriter(TEST_FILE_PATH, true)) {
+            writer.write(outsider.getId() + "," + outsider.getName() + "\n");
+        }
+
+        assertEquals(2, repository.getUsers().size());
+        assertEquals("Outsider", repository.getUserById(outsider.getId()).getName());
+        assertEquals(alice.getId(), repository.findUserByName("ALICE").getId());
+    }
+
+    @Test
+    void shouldKeepCachedUsersWhenReloadIsDisabled() throws IOException {
+        UserFileRepository cached = new UserFileRepository(TEST_FILE_PATH, false);
+        cached.addUser(new User(UUID.randomUUID(), "Eve"));
+
+        try (FileWriter writer = new FileWriter(TEST_FILE_PATH, true)) {
+            writer.write(UUID.randomUUID() + ",Mallory\n");
+        }
+
+        assertEquals(1, cached.getUsers().size());
+        assertNull(cached.findUserByName("Mallory"));
+        assertEquals(2, new UserFileRepository().getUsers().size());
+    }
+}
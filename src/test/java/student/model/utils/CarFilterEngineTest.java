@@ -6,6 +6,7 @@ import student.model.Car.Brand;
 import student.model.Car.Car;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,4 +73,19 @@ class CarFilterEngineTest {
         List<Car> result = CarFilterEngine.searchByKeyword(sampleCars, "unknown");
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void cheapestAndMostExpensive_shouldMatchStableSort() {
+        List<Car> ascending = CarFilterEngine.sortByPrice(sampleCars);
+        List<Car> descending = sampleCars.stream()
+                .sorted(Comparator.comparing(Car::getRentalPricePerDay).reversed())
+                .toList();
+        for (int k = 0; k <= sampleCars.size() + 1; k++) {
+            int n = Math.min(k, sampleCars.size());
+            assertEquals(ascending.subList(0, n), CarFilterEngine.cheapest(sampleCars, k, car -> true));
+            assertEquals(descending.subList(0, n), CarFilterEngine.mostExpensive(sampleCars, k, car -> true));
+        }
+        assertEquals(ascending.stream().filter(Car::isElectric).toList(),
+                CarFilterEngine.cheapest(sampleCars, 10, Car::isElectric));
+    }
 }
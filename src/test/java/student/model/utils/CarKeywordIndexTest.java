@@ -0,0 +1,58 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarKeywordIndexTest {
+
+    private List<Car> sampleCars;
+    private CarKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        sampleCars = List.of(
+                new Car("AB1234", new BigDecimal("50.00"), Brand.TESLA, true, "Model Y"),
+                new Car("CD5678", new BigDecimal("30.00"), Brand.HONDA, false, "Civic"),
+                new Car("XY1234", new BigDecimal("40.00"), Brand.XIAOMI, false, "SU7"),
+                new Car("1000", new BigDecimal("25.00"), Brand.BYD, true, "Han"),
+                new Car("1001", new BigDecimal("30.00"), Brand.AUDI, false, "A4"),
+                new Car("CIV123", new BigDecimal("35.00"), Brand.HONDA, false, "civic")
+        );
+        index = new CarKeywordIndex(sampleCars);
+    }
+
+    @Test
+    void search_shouldMatchLinearSearch() {
+        String[] keywords = {
+                "a", "A", "ab", "1234", "B12", "b1234", "tesla", "TES", "civic", "CIV",
+                "model y", "100", "1001", "han", "4", "su7", "xy1", "zzz", "123456", "ic"
+        };
+        for (String keyword : keywords) {
+            assertEquals(CarFilterEngine.searchByKeyword(sampleCars, keyword), index.search(keyword), keyword);
+        }
+    }
+
+    @Test
+    void search_emptyKeywordShouldReturnAllCars() {
+        assertEquals(sampleCars, index.search(""));
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void search_shouldReturnCarsInOriginalOrder() {
+        List<Car> result = index.search("civ");
+        assertEquals(List.of("CD5678", "CIV123"), result.stream().map(Car::getRegNumber).toList());
+    }
+
+    @Test
+    void search_noMatchShouldReturnEmptyList() {
+        assertTrue(index.search("nothing").isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarPriceIndexTest {
+
+    private List<Car> sampleCars;
+    private CarPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        sampleCars = List.of(
+                new Car("A1", new BigDecimal("50.00"), Brand.TESLA, true, "Model Y"),
+                new Car("A2", new BigDecimal("30.00"), Brand.HONDA, false, "Civic"),
+                new Car("A3", new BigDecimal("40.00"), Brand.XIAOMI, false, "X1"),
+                new Car("A4", new BigDecimal("25.00"), Brand.BYD, true, "Han"),
+                new Car("A5", new BigDecimal("30.00"), Brand.AUDI, false, "A4")
+        );
+        index = new CarPriceIndex(sampleCars);
+    }
+
+    @Test
+    void sortedByPrice_shouldMatchStableSort() {
+        assertEquals(CarFilterEngine.sortByPrice(sampleCars), index.sortedByPrice());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void inRange_shouldMatchLinearFilter() {
+        BigDecimal[][] ranges = {
+                {new BigDecimal("30"), new BigDecimal("50")},
+                {new BigDecimal("29.999"), new BigDecimal("30.001")},
+                {new BigDecimal("0"), new BigDecimal("1000")},
+                {new BigDecimal("40.01"), new BigDecimal("49.99")},
+                {new BigDecimal("60"), new BigDecimal("50")}
+        };
+        for (BigDecimal[] range : ranges) {
+            List<Car> expected = CarFilterEngine.filterByPriceRange(sampleCars, range[0], range[1]);
+            List<Car> actual = index.inRange(range[0], range[1]);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
+    @Test
+    void inRange_shouldReturnCarsInPriceOrder() {
+        List<Car> result = index.inRange(new BigDecimal("25"), new BigDecimal("40"));
+        assertEquals(List.of("A4", "A2", "A5", "A3"), result.stream().map(Car::getRegNumber).toList());
+    }
+
+    @Test
+    void inRange_shouldHandleExtremeBounds() {
+        List<Car> result = index.inRange(new BigDecimal("-1E30"), new BigDecimal("1E30"));
+        assertEquals(5, result.size());
+    }
+
+    @Test
+    void sortedByPrice_shouldBeUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> index.sortedByPrice().clear());
+    }
+
+    @Test
+    void cheapest_shouldReturnFirstKInPriceOrder() {
+        assertEquals(List.of("A4", "A2", "A5"), regNumbers(index.cheapest(3, car -> true)));
+        assertEquals(List.of("A2", "A5"), regNumbers(index.cheapest(2, car -> !car.isElectric())));
+        assertEquals(5, index.cheapest(10, car -> true).size());
+        assertTrue(index.cheapest(0, car -> true).isEmpty());
+    }
+
+    @Test
+    void mostExpensive_shouldKeepOriginalOrderForTies() {
+        assertEquals(List.of("A1", "A3", "A2", "A5"), regNumbers(index.mostExpensive(4, car -> true)));
+        assertEquals(List.of("A3", "A2"), regNumbers(index.mostExpensive(2, car -> !car.isElectric())));
+        assertEquals(List.of("A4"), regNumbers(index.mostExpensive(3, car -> car.getBrand() == Brand.BYD)));
+    }
+
+    private static List<String> regNumbers(List<Car> cars) {
+        return cars.stream().map(Car::getRegNumber).toList();
+    }
+}
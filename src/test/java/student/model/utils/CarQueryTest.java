@@ -0,0 +1,146 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarQueryTest {
+
+    private static final String[] MODELS = {"Model 3", "Civic", "Han", "SU7", "A4", "Corolla"};
+
+    private List<Car> fleet;
+    private CarPriceIndex priceIndex;
+    private CarKeywordIndex keywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(11);
+        Brand[] brands = Brand.values();
+        fleet = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            fleet.add(new Car(String.format("R%05d", i), BigDecimal.valueOf(1000 + random.nextInt(9000), 2),
+                    brands[random.nextInt(brands.length)], random.nextBoolean(), MODELS[random.nextInt(MODELS.length)]));
+        }
+        priceIndex = new CarPriceIndex(fleet);
+        keywordIndex = new CarKeywordIndex(fleet);
+    }
+
+    private List<Car> expected(Predicate<Car> filter, boolean sortByPrice, int offset, int limit) {
+        var stream = fleet.stream().filter(filter);
+        if (sortByPrice) stream = stream.sorted(Comparator.comparing(Car::getRentalPricePerDay));
+        return stream.skip(offset).limit(limit).toList();
+    }
+
+    private void assertQuery(List<Car> expected, Supplier<CarQuery> query) {
+        assertEquals(expected, query.get().run(fleet, priceIndex, keywordIndex), "indexed");
+        assertEquals(expected, query.get().run(fleet, null, null), "unindexed");
+        assertEquals(expected, query.get().run(fleet, priceIndex, null), "price index only");
+        assertEquals(expected, query.get().run(fleet, null, keywordIndex), "keyword index only");
+    }
+
+    @Test
+    void shouldCombineAllCriteria() {
+        BigDecimal min = new BigDecimal("20.00");
+        BigDecimal max = new BigDecimal("60.00");
+        Predicate<Car> filter = car -> (car.getBrand() == Brand.TESLA || car.getBrand() == Brand.BYD)
+                && car.isElectric()
+                && car.getRentalPricePerDay().compareTo(min) >= 0 && car.getRentalPricePerDay().compareTo(max) <= 0
+                && CarFilterEngine.searchByKeyword(List.of(car), "a").size() == 1;
+
+        for (boolean sort : new boolean[]{false, true}) {
+            assertQuery(expected(filter, sort, 0, Integer.MAX_VALUE), () -> {
+                CarQuery query = new CarQuery().brand(Brand.TESLA, Brand.BYD).electric(true)
+                        .priceBetween(min, max).keyword("A");
+                return sort ? query.sortByPrice() : query;
+            });
+        }
+    }
+
+    @Test
+    void shouldApplyOffsetAndLimitAfterFiltering() {
+        Predicate<Car> filter = car -> !car.isElectric();
+
+        assertQuery(expected(filter, false, 40, 18), () -> new CarQuery().electric(false).offset(40).limit(18));
+        assertQuery(expected(filter, true, 40, 18), () -> new CarQuery().electric(false).sortByPrice().offset(40).limit(18));
+        assertQuery(List.of(), () -> new CarQuery().electric(false).offset(fleet.size()).limit(18));
+        assertQuery(List.of(), () -> new CarQuery().limit(0));
+    }
+
+    @Test
+    void keywordShouldMatchLinearSearch() {
+        for (String keyword : List.of("r00", "civic", "SLA", "1", "zzz")) {
+            assertQuery(CarFilterEngine.searchByKeyword(fleet, keyword), () -> new CarQuery().keyword(keyword));
+        }
+    }
+
+    @Test
+    void sortByPriceWithRangeShouldMatchPriceIndex() {
+        BigDecimal min = new BigDecimal("30");
+        BigDecimal max = new BigDecimal("31");
+
+        assertQuery(priceIndex.inRange(min, max), () -> new CarQuery().priceBetween(min, max).sortByPrice());
+    }
+
+    @Test
+    void customConditionsShouldRunLast() {
+        List<Car> checked = new ArrayList<>();
+        Predicate<Car> condition = car -> {
+            checked.add(car);
+            return true;
+        };
+
+        List<Car> result = new CarQuery().brand(Brand.AUDI).where(condition).run(fleet, priceIndex, keywordIndex);
+
+        assertEquals(result, checked);
+        assertTrue(checked.stream().allMatch(car -> car.getBrand() == Brand.AUDI));
+    }
+
+    @Test
+    void countShouldIgnoreOffsetAndLimit() {
+        CarQuery query = new CarQuery().electric(true).keyword("han").offset(3).limit(2);
+        int expected = (int) fleet.stream().filter(car -> car.isElectric() && car.getModel().equals("Han")).count();
+
+        assertEquals(expected, query.count(fleet, priceIndex, keywordIndex));
+        assertEquals(expected, query.count(fleet, null, null));
+        assertEquals(fleet.size(), new CarQuery().count(fleet, priceIndex, keywordIndex));
+    }
+
+    @Test
+    void explicitRangeShouldOverrideQueryOffsetAndLimit() {
+        CarQuery query = new CarQuery().electric(true).sortByPrice().offset(5).limit(5);
+
+        assertEquals(expected(Car::isElectric, true, 36, 18), query.run(fleet, priceIndex, keywordIndex, 36, 18));
+        assertEquals(expected(Car::isElectric, true, 5, 5), query.run(fleet, priceIndex, keywordIndex));
+    }
+
+    @Test
+    void pagesShouldMatchRunAndIgnoreLaterChanges() {
+        CarQuery query = new CarQuery().brand(Brand.TESLA).sortByPrice();
+        List<Car> all = query.run(fleet, priceIndex, keywordIndex);
+        PageSource<Car> pages = query.pages(fleet, priceIndex, keywordIndex);
+        query.electric(true);
+
+        Page<Car> second = pages.fetch(1, 18);
+
+        assertEquals(all.subList(18, 36), second.getItems());
+        assertEquals(all.size(), second.getTotalCount());
+    }
+
+    @Test
+    void shouldRejectNegativeOffsetOrLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new CarQuery().offset(-1));
+        assertThrows(IllegalArgumentException.class, () -> new CarQuery().limit(-1));
+        assertThrows(IllegalArgumentException.class, () -> new CarQuery().run(fleet, null, null, -1, 1));
+    }
+}
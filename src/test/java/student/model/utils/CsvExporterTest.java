@@ -0,0 +1,112 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import student.model.Booking.CarBooking;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+import student.model.User.User;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvExporterTest {
+
+    @TempDir
+    Path dir;
+
+    private final User user = new User(UUID.fromString("00000000-0000-4000-8000-000000000001"), "Alice");
+    private final Car car = new Car("REG1", new BigDecimal("49.995"), Brand.TESLA, true, "Model 3");
+    private final LocalDateTime time = LocalDateTime.of(2024, 5, 1, 10, 30);
+
+    @Test
+    void availableCarsShouldMatchFormattedOutput() throws IOException {
+        Car gas = new Car("REG2", new BigDecimal("80"), Brand.KIA, false, "Rio");
+        StringWriter out = new StringWriter();
+
+        long rows = CsvExporter.availableCars().export(out, List.of(car, gas));
+
+        assertEquals(2, rows);
+        assertEquals("ID,Brand,Price,Type\n"
+                + "REG1,TESLA,50.00,Electric\n"
+                + "REG2,KIA,80.00,Gas\n", out.toString());
+    }
+
+    @Test
+    void bookingsShouldMatchPreviousColumns() throws IOException {
+        CarBooking booking = new CarBooking(UUID.randomUUID(), user, car, time);
+        booking.setCanceled(true);
+        StringWriter out = new StringWriter();
+
+        CsvExporter.bookings().export(out, List.of(booking));
+
+        assertEquals("BookingID,User,Brand,Model,CarReg,Price,Time,Canceled\n"
+                + booking.getBookingId() + ",Alice,TESLA,Model 3,REG1,49.995," + time + ",true\n", out.toString());
+    }
+
+    @Test
+    void bookingDetailsShouldIncludeUserIdAndRoundedPrice() throws IOException {
+        CarBooking booking = new CarBooking(UUID.randomUUID(), user, car, time);
+        Path file = dir.resolve("booking.csv");
+
+        CsvExporter.bookingDetails().export(file, List.of(booking));
+
+        assertEquals(List.of("BookingID,UserID,UserName,CarID,Brand,Price,BookingTime",
+                        booking.getBookingId() + "," + user.getId() + ",Alice,REG1,TESLA,50.00," + time),
+                Files.readAllLines(file));
+    }
+
+    @Test
+    void shouldQuoteFieldsWithSeparators() {
+        assertEquals("plain", CsvExporter.appendField(new StringBuilder(), "plain").toString());
+        assertEquals("\"Smith, \"\"Jr\"\"\"",
+                CsvExporter.appendField(new StringBuilder(), "Smith, \"Jr\"").toString());
+    }
+
+    @Test
+    void shouldStreamRowsAndReportThroughput() throws IOException {
+        int count = 200_000;
+        Iterable<Car> generated = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Car next() {
+                return new Car("R" + next++, BigDecimal.TEN, Brand.BYD, false, "Han");
+            }
+        };
+        CsvExporter<Car> exporter = CsvExporter.availableCars();
+        Path file = dir.resolve("cars.csv");
+
+        assertEquals(count, exporter.export(file, generated));
+
+        assertEquals(count, exporter.getRowsWritten());
+        assertTrue(exporter.getRowsPerSecond() > 0);
+        try (var lines = Files.lines(file)) {
+            assertEquals(count + 1, lines.count());
+        }
+    }
+
+    @Test
+    void customExporterWithoutHeader() throws IOException {
+        CsvExporter<String> exporter = new CsvExporter<>(null, CsvExporter::appendField);
+        StringWriter out = new StringWriter();
+
+        exporter.export(out, List.of("a", "b,c"));
+
+        assertEquals("a\n\"b,c\"\n", out.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import student.model.Car.Brand;
+import student.model.Car.Car;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalCarSearchTest {
+
+    private List<Car> sampleCars;
+    private IncrementalCarSearch search;
+
+    @BeforeEach
+    void setUp() {
+        sampleCars = List.of(
+                new Car("AB1234", new BigDecimal("50.00"), Brand.TESLA, true, "Model Y"),
+                new Car("CD5678", new BigDecimal("30.00"), Brand.HONDA, false, "Civic"),
+                new Car("XY1234", new BigDecimal("40.00"), Brand.XIAOMI, false, "SU7"),
+                new Car("1000", new BigDecimal("25.00"), Brand.BYD, true, "Han"),
+                new Car("1001", new BigDecimal("30.00"), Brand.AUDI, false, "A4"),
+                new Car("CIV123", new BigDecimal("35.00"), Brand.HONDA, false, "civic")
+        );
+        search = new IncrementalCarSearch(new CarKeywordIndex(sampleCars));
+    }
+
+    @Test
+    void typingShouldMatchLinearSearchAtEveryKeystroke() {
+        for (String word : List.of("tesla", "civic", "b1234", "1001", "model y", "xiaomi")) {
+            for (int length = 0; length <= word.length(); length++) {
+                String keyword = word.substring(0, length);
+                assertEquals(CarFilterEngine.searchByKeyword(sampleCars, keyword), search.search(keyword), keyword);
+            }
+        }
+    }
+
+    @Test
+    void deletingCharactersShouldMatchLinearSearch() {
+        for (String keyword : List.of("c", "ci", "civ", "civi", "civic", "civi", "civ", "ci", "c", "C", "CIV")) {
+            assertEquals(CarFilterEngine.searchByKeyword(sampleCars, keyword), search.search(keyword), keyword);
+        }
+    }
+
+    @Test
+    void keywordContainingEarlierOneShouldRefineIt() {
+        assertEquals(List.of("CD5678", "CIV123"), search.search("iv").stream().map(Car::getRegNumber).toList());
+        assertEquals(List.of("CD5678", "CIV123"), search.search("civic").stream().map(Car::getRegNumber).toList());
+        assertTrue(search.search("xivic").isEmpty());
+    }
+
+    @Test
+    void smallCacheShouldStayCorrectOnRandomFleet() {
+        Random random = new Random(7);
+        Brand[] brands = Brand.values();
+        String[] models = {"Model 3", "Civic", "Han", "SU7", "A4", "Corolla"};
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            fleet.add(new Car(String.format("R%05d", random.nextInt(100_000)), BigDecimal.TEN,
+                    brands[random.nextInt(brands.length)], false, models[random.nextInt(models.length)]));
+        }
+        IncrementalCarSearch small = new IncrementalCarSearch(new CarKeywordIndex(fleet), 2);
+
+        for (String keyword : List.of("r", "r1", "r12", "r123", "r12", "o", "or", "ora", "c", "co", "cor", "3", "33")) {
+            assertEquals(CarFilterEngine.searchByKeyword(fleet, keyword), small.search(keyword), keyword);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private static final List<String> AMOUNTS = List.of("0", "0.00", "30", "30.00", "49.99", "-0.004", "-0.005",
+            "0.125", "0.135", "2.675", "1.005", "99.995", "-12.345", "1E+3", "12345678901234.5678",
+            "0.0000000000000000001", "9223372036854775807", "-9223372036854775808", "0.9223372036854775807",
+            "9223372036854775808", "-1234567890123456789.5");
+
+    @Test
+    void shouldConvertBackToSameDecimal() {
+        for (String text : AMOUNTS) {
+            BigDecimal amount = new BigDecimal(text);
+            assertEquals(amount, Money.of(amount).toBigDecimal(), text);
+        }
+    }
+
+    @Test
+    void shouldFormatLikeBigDecimal() {
+        for (String text : AMOUNTS) {
+            BigDecimal amount = new BigDecimal(text);
+            Money money = Money.of(amount);
+            assertEquals(amount.toPlainString(), money.toString(), text);
+            for (int decimals : new int[]{0, 1, 2, 3, 20}) {
+                assertEquals(amount.setScale(decimals, RoundingMode.HALF_UP).toPlainString(),
+                        money.appendTo(new StringBuilder(), decimals).toString(), text + " @" + decimals);
+            }
+        }
+    }
+
+    @Test
+    void shouldCompareLikeBigDecimal() {
+        for (String left : AMOUNTS) {
+            for (String right : AMOUNTS) {
+                BigDecimal a = new BigDecimal(left);
+                BigDecimal b = new BigDecimal(right);
+                assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(Money.of(a).compareTo(Money.of(b))),
+                        left + " vs " + right);
+                assertEquals(a.equals(b), Money.of(a).equals(Money.of(b)), left + " equals " + right);
+            }
+        }
+    }
+
+    @Test
+    void randomPricesShouldRoundAndCompareLikeBigDecimal() {
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal a = BigDecimal.valueOf(random.nextLong() % 10_000_000, random.nextInt(6));
+            BigDecimal b = BigDecimal.valueOf(random.nextLong() % 10_000_000, random.nextInt(6));
+
+            assertEquals(a.setScale(2, RoundingMode.HALF_UP).toPlainString(),
+                    Money.of(a).appendTo(new StringBuilder(), 2).toString(), a.toString());
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(Money.of(a).compareTo(Money.of(b))));
+        }
+    }
+
+    @Test
+    void shouldRescaleExactly() {
+        Money price = Money.of(new BigDecimal("12.50"));
+
+        assertEquals(12500, price.toUnits(3));
+        assertEquals(125, price.toUnits(1));
+        assertThrows(ArithmeticException.class, () -> price.toUnits(0));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+30")).toUnits(0));
+    }
+
+    @Test
+    void amountsBeyondLongShouldKeepTheirDecimal() {
+        Money huge = Money.of(new BigDecimal("92233720368547758080"));
+
+        assertThrows(ArithmeticException.class, huge::getUnits);
+        assertThrows(ArithmeticException.class, () -> huge.toUnits(0));
+        assertEquals(Money.of(new BigDecimal("92233720368547758080")), huge);
+        assertTrue(huge.compareTo(Money.of(new BigDecimal("9223372036854775807"))) > 0);
+    }
+
+    @Test
+    void shouldRejectComparingDifferentCurrencies() {
+        Money euros = Money.of(BigDecimal.ONE, Currency.getInstance("EUR"));
+        assertThrows(IllegalArgumentException.class, () -> euros.compareTo(Money.of(BigDecimal.ONE)));
+        assertNotEquals(euros, Money.of(BigDecimal.ONE));
+    }
+}
@@ -0,0 +1,70 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageSourceTest {
+
+    private final List<Integer> rows = IntStream.range(0, 40).boxed().toList();
+
+    @Test
+    void listSourceShouldSliceList() {
+        PageSource<Integer> source = PageSource.of(rows);
+
+        Page<Integer> last = source.fetch(2, 18);
+
+        assertEquals(rows.subList(36, 40), last.getItems());
+        assertEquals(40, last.getTotalCount());
+        assertEquals(3, last.getTotalPages());
+    }
+
+    @Test
+    void lazySourceShouldFetchOnlyRequestedRangeAndCountOnce() {
+        List<String> requests = new ArrayList<>();
+        AtomicInteger counts = new AtomicInteger();
+        PageSource<Integer> source = PageSource.lazy((offset, limit) -> {
+            requests.add(offset + "+" + limit);
+            return rows.subList(offset, Math.min(offset + limit, rows.size()));
+        }, () -> {
+            counts.incrementAndGet();
+            return rows.size();
+        });
+
+        assertEquals(rows.subList(0, 18), source.fetch(0, 18).getItems());
+        assertEquals(rows.subList(18, 36), source.fetch(1, 18).getItems());
+
+        assertEquals(List.of("0+18", "18+18"), requests);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void pageBeyondLastShouldBeClampedToLast() {
+        Page<Integer> page = PageSource.of(rows).fetch(9, 18);
+
+        assertEquals(2, page.getPageIndex());
+        assertEquals(rows.subList(36, 40), page.getItems());
+    }
+
+    @Test
+    void emptySourceShouldNotFetchRows() {
+        Page<Integer> page = PageSource.<Integer>lazy((offset, limit) -> fail("no rows to fetch"), () -> 0).fetch(3, 18);
+
+        assertEquals(0, page.getPageIndex());
+        assertTrue(page.getItems().isEmpty());
+        assertEquals(0, page.getTotalPages());
+    }
+
+    @Test
+    void shouldRejectInvalidIndexOrSize() {
+        PageSource<Integer> source = PageSource.of(rows);
+
+        assertThrows(IllegalArgumentException.class, () -> source.fetch(-1, 18));
+        assertThrows(IllegalArgumentException.class, () -> source.fetch(0, 0));
+    }
+}
@@ -0,0 +1,36 @@
+package student.model.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageTest {
+
+    @Test
+    void shouldComputePageCountAndNeighbours() {
+        Page<String> middle = new Page<>(List.of("d", "e", "f"), 1, 3, 7);
+
+        assertEquals(3, middle.getTotalPages());
+        assertTrue(middle.hasPrevious());
+        assertTrue(middle.hasNext());
+        assertFalse(new Page<>(List.of("g"), 2, 3, 7).hasNext());
+        assertFalse(new Page<>(List.of("a", "b", "c"), 0, 3, 7).hasPrevious());
+    }
+
+    @Test
+    void emptyResultShouldHaveNoPages() {
+        Page<String> empty = new Page<>(List.of(), 0, 18, 0);
+
+        assertEquals(0, empty.getTotalPages());
+        assertFalse(empty.hasNext());
+        assertFalse(empty.hasPrevious());
+    }
+
+    @Test
+    void shouldRejectInvalidIndexOrSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Page<>(List.of(), -1, 18, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Page<>(List.of(), 0, 0, 0));
+    }
+}
@@ -167,7 +167,7 @@ class CarRentalCLIViewTest {
     void exportBookingToCSV() throws IOException {
         User user = userService.register("User_" + UUID.randomUUID());
         Car car = bookingService.getAvailableCars().get(0);
-        UUID bookingId = bookingService.bookCar(user, car.getRegNumber());
+        UUID bookingId = bookingService.bookCar(user, car.getRegNumber()).getBookingId();
 
         CarBooking booking = bookingService.getBookings().stream()
                 .filter(b -> b.getBookingId().equals(bookingId))
@@ -185,7 +185,7 @@ class CarRentalCLIViewTest {
     void exportBookingToCSV_FileWriteFailure() throws IOException {
         User user = userService.getUsers().get(0);
         String regNumber = getNextAvailableRegNumber();
-        UUID bookingId = bookingService.bookCar(user, regNumber);
+        UUID bookingId = bookingService.bookCar(user, regNumber).getBookingId();
 
         CarBooking booking = bookingService.getBookings().stream()
                 .filter(b -> b.getBookingId().equals(bookingId))
@@ -404,7 +404,7 @@ class CarRentalCLIViewTest {
     void cancelBooking() {
         User user = userService.getUsers().get(0);
         String regNumber = getNextAvailableRegNumber();
-        UUID bookingId = bookingService.bookCar(user, regNumber);
+        UUID bookingId = bookingService.bookCar(user, regNumber).getBookingId();
 
         System.setIn(new ByteArrayInputStream((bookingId.toString() + "\n").getBytes()));
         view = new CarRentalCLIView();
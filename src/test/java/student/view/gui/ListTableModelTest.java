@@ -0,0 +1,59 @@
+package student.view.gui;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListTableModelTest {
+
+    private final ListTableModel model = new ListTableModel();
+
+    @Test
+    void shouldReadCellsFromBackingList() {
+        model.show(new String[]{"Value", "Length"}, List.of("a", "bcd"),
+                (item, column) -> column == 0 ? item : item.length());
+
+        assertEquals(2, model.getRowCount());
+        assertEquals(2, model.getColumnCount());
+        assertEquals("Length", model.getColumnName(1));
+        assertEquals("bcd", model.getValueAt(1, 0));
+        assertEquals(3, model.getValueAt(1, 1));
+        assertEquals("a", model.getRow(0));
+        assertFalse(model.isCellEditable(0, 0));
+    }
+
+    @Test
+    void shouldFireSingleStructureChangedEvent() {
+        List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+
+        model.show(new String[]{"N"}, new ArrayList<>(List.of(1, 2, 3)), (item, column) -> item);
+
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.HEADER_ROW, events.get(0).getFirstRow());
+    }
+
+    @Test
+    void shouldNotCopyRows() {
+        List<Integer> rows = new ArrayList<>(List.of(1));
+        model.show(new String[]{"N"}, rows, (item, column) -> item * 10);
+
+        rows.set(0, 7);
+
+        assertEquals(70, model.getValueAt(0, 0));
+    }
+
+    @Test
+    void clearShouldRemoveRowsAndColumns() {
+        model.show(new String[]{"N"}, List.of(1), (item, column) -> item);
+
+        model.clear();
+
+        assertEquals(0, model.getRowCount());
+        assertEquals(0, model.getColumnCount());
+    }
+}